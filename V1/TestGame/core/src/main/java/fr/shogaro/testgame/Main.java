@@ -5,6 +5,7 @@ import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import fr.shogaro.testgame.render.BatchShapes;
 import fr.shogaro.testgame.render.UiRenderer;
 import fr.shogaro.testgame.screens.EndScreen;
 import fr.shogaro.testgame.screens.GameScreen;
@@ -12,22 +13,27 @@ import fr.shogaro.testgame.screens.MenuScreen;
 import fr.shogaro.testgame.screens.SettingsScreen;
 import fr.shogaro.testgame.systems.AssetStore;
 import fr.shogaro.testgame.systems.AudioSystem;
+import fr.shogaro.testgame.systems.TextureCache;
 
 public class Main extends Game {
     private SpriteBatch batch;
     private ShapeRenderer shapeRenderer;
+    private BatchShapes batchShapes;
     private BitmapFont font;
     private UiRenderer uiRenderer;
     private AudioSystem audioSystem;
+    private TextureCache textureCache;
     private AssetStore assetStore;
 
     @Override
     public void create() {
         batch = new SpriteBatch();
         shapeRenderer = new ShapeRenderer();
+        batchShapes = new BatchShapes();
         font = new BitmapFont();
         uiRenderer = new UiRenderer(font);
-        assetStore = new AssetStore();
+        textureCache = new TextureCache();
+        assetStore = new AssetStore(textureCache);
         assetStore.load();
         audioSystem = new AudioSystem("audio/gameMusic.mp3");
         audioSystem.initialize();
@@ -42,6 +48,10 @@ public class Main extends Game {
         return shapeRenderer;
     }
 
+    public BatchShapes getBatchShapes() {
+        return batchShapes;
+    }
+
     public UiRenderer getUiRenderer() {
         return uiRenderer;
     }
@@ -50,6 +60,10 @@ public class Main extends Game {
         return audioSystem;
     }
 
+    public TextureCache getTextureCache() {
+        return textureCache;
+    }
+
     public AssetStore getAssetStore() {
         return assetStore;
     }
@@ -101,11 +115,17 @@ public class Main extends Game {
         if (shapeRenderer != null) {
             shapeRenderer.dispose();
         }
+        if (batchShapes != null) {
+            batchShapes.dispose();
+        }
         if (batch != null) {
             batch.dispose();
         }
         if (font != null) {
             font.dispose();
         }
+        if (textureCache != null) {
+            textureCache.dispose();
+        }
     }
 }
@@ -4,6 +4,7 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import fr.shogaro.testgame.systems.TextureCache;
 
 public class Assassin extends Character{
 
@@ -14,8 +15,8 @@ public class Assassin extends Character{
     private static float ATTACK_RANGE = 3f;
     private static float SPEED = 250;
 
-    public Assassin(float x, float y, float width, float height) {
-        super(HEALTH_MAX, DAMAGE, ATTACK_SPEED, ATTACK_RANGE, SPEED);
+    public Assassin(float x, float y, float width, float height, TextureCache textureCache) {
+        super(HEALTH_MAX, DAMAGE, ATTACK_SPEED, ATTACK_RANGE, SPEED, textureCache);
 
         System.out.println("x recu = " + x);
         System.out.println("y recu = " + y);
@@ -26,7 +27,7 @@ public class Assassin extends Character{
         this.height = height;
 
         loadAnimations();
-        update(0f, null, null, 0);
+        update(0f, null, null);
     }
 
 
@@ -6,6 +6,8 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.utils.Array;
+import fr.shogaro.testgame.systems.SpatialGrid;
+import fr.shogaro.testgame.systems.TextureCache;
 
 import java.util.EnumMap;
 
@@ -28,6 +30,8 @@ abstract public class Character {
         DAMAGE
     }
 
+    private static final int DIRECTION_COUNT = Direction.values().length;
+
     protected int healthMax;
     protected int healthCurrent;
     protected float x,y;
@@ -49,7 +53,11 @@ abstract public class Character {
     protected boolean attackTriggered;
 
     protected final EnumMap<State, EnumMap<Direction, Animation<TextureRegion>>> animations = new EnumMap<>(State.class);
-    protected final Array<Texture> animationTextures = new Array<>();
+    // Every (state, direction, last horizontal, last vertical) resolved once with the
+    // fallbacks below, so the per-frame lookup is a single array read. Rebuilt when animations change.
+    private Animation<TextureRegion>[] animationTable;
+    protected final TextureCache textureCache;
+    protected final Array<String> texturePaths = new Array<>();
     protected TextureRegion currentFrame;
     protected Animation<TextureRegion> damageOverlayAnimation;
     protected TextureRegion damageOverlayFrame;
@@ -65,7 +73,8 @@ abstract public class Character {
     protected Rectangle attackHitbox = new Rectangle();
     protected Rectangle hurtHitbox = new Rectangle();
 
-    protected Character(int health, int damage, float aSpeed, float aRange, float speed) {
+    protected Character(int health, int damage, float aSpeed, float aRange, float speed, TextureCache textureCache) {
+        this.textureCache = textureCache;
         this.healthMax = health;
         this.healthCurrent = health;
         this.attackDamage = damage;
@@ -76,7 +85,7 @@ abstract public class Character {
 
     abstract public void move();
 
-    public void update(float delta, Rectangle mobHitbox, Rectangle mobAttackHitbox, int mobDamage){
+    public void update(float delta, SpatialGrid mobHitboxes, SpatialGrid mobAttackHitboxes){
         attackTriggered = false;
         stateTime += delta;
 
@@ -90,20 +99,24 @@ abstract public class Character {
 
         updateHitboxes();
 
-        if (mobHitbox != null && attackCooldown <= 0f && attackHitbox.overlaps(mobHitbox)) {
+        if (mobHitboxes != null && attackCooldown <= 0f && mobHitboxes.overlapsAny(attackHitbox)) {
             triggerAttack();
         }
 
-        if (mobAttackHitbox != null && damageCooldown <= 0f && hurtHitbox.overlaps(mobAttackHitbox)) {
-            int damageToApply = mobDamage > 0 ? mobDamage : 10;
-            triggerDamage(damageToApply);
+        if (mobAttackHitboxes != null && damageCooldown <= 0f) {
+            int attacker = mobAttackHitboxes.firstOverlap(hurtHitbox);
+            if (attacker != -1) {
+                int mobDamage = mobAttackHitboxes.getValue(attacker);
+                int damageToApply = mobDamage > 0 ? mobDamage : 10;
+                triggerDamage(damageToApply);
+            }
         }
 
         if (state == State.ATTACK && isCurrentAnimationFinished()) {
             setState(moving ? State.MOVE : State.IDLE);
         }
 
-        Animation<TextureRegion> animation = getAnimation(state, resolveDirectionForState(state, direction));
+        Animation<TextureRegion> animation = getCurrentAnimation();
         if (animation != null) {
             boolean looping = state == State.MOVE || state == State.IDLE;
             currentFrame = animation.getKeyFrame(stateTime, looping);
@@ -149,9 +162,10 @@ abstract public class Character {
     }
 
     public void dispose() {
-        for (Texture texture : animationTextures) {
-            texture.dispose();
+        for (String path : texturePaths) {
+            textureCache.release(path);
         }
+        texturePaths.clear();
     }
 
     public int getHealthMax() {
@@ -245,6 +259,7 @@ abstract public class Character {
             animations.put(state, stateAnimations);
         }
         stateAnimations.put(direction, animation);
+        animationTable = null;
     }
 
     protected void addAnimationForAllDirections(State state, Animation<TextureRegion> animation) {
@@ -261,9 +276,7 @@ abstract public class Character {
         Array<TextureRegion> frames = new Array<>();
         for (int i = 1; i <= frameCount; i++) {
             String path = basePath + "/" + framePrefix + i + ".png";
-            Texture texture = new Texture(path);
-            animationTextures.add(texture);
-            frames.add(new TextureRegion(texture));
+            frames.add(new TextureRegion(acquireTexture(path)));
         }
         Animation<TextureRegion> animation = new Animation<>(frameDuration, frames);
         animation.setPlayMode(playMode);
@@ -271,15 +284,18 @@ abstract public class Character {
     }
 
     protected Animation<TextureRegion> buildSingleFrame(String path) {
-        Texture texture = new Texture(path);
-        animationTextures.add(texture);
         Array<TextureRegion> frames = new Array<>();
-        frames.add(new TextureRegion(texture));
+        frames.add(new TextureRegion(acquireTexture(path)));
         Animation<TextureRegion> animation = new Animation<>(1f, frames);
         animation.setPlayMode(Animation.PlayMode.NORMAL);
         return animation;
     }
 
+    protected Texture acquireTexture(String path) {
+        texturePaths.add(path);
+        return textureCache.acquire(path);
+    }
+
     protected void triggerAttack() {
         setState(State.ATTACK);
         attackCooldown = attackSpeed;
@@ -299,7 +315,7 @@ abstract public class Character {
     }
 
     protected boolean isCurrentAnimationFinished() {
-        Animation<TextureRegion> animation = getAnimation(state, resolveDirectionForState(state, direction));
+        Animation<TextureRegion> animation = getCurrentAnimation();
         if (animation == null) {
             return true;
         }
@@ -326,7 +342,47 @@ abstract public class Character {
         return stateAnimations.get(Direction.TOP_LEFT);
     }
 
+    protected Animation<TextureRegion> getCurrentAnimation() {
+        if (animationTable == null) {
+            buildAnimationTable();
+        }
+        return animationTable[animationIndex(state, direction, lastHorizontal, lastVertical)];
+    }
+
+    private static int animationIndex(State state, Direction direction, Direction horizontal, Direction vertical) {
+        int index = (state.ordinal() * DIRECTION_COUNT + direction.ordinal()) * 4;
+        if (horizontal == Direction.RIGHT) {
+            index += 1;
+        }
+        if (vertical == Direction.TOP) {
+            index += 2;
+        }
+        return index;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void buildAnimationTable() {
+        State[] states = State.values();
+        Direction[] directions = Direction.values();
+        Direction[] horizontals = {Direction.LEFT, Direction.RIGHT};
+        Direction[] verticals = {Direction.BOTTOM, Direction.TOP};
+        animationTable = (Animation<TextureRegion>[]) new Animation[states.length * directions.length * 4];
+        for (State s : states) {
+            for (Direction d : directions) {
+                for (Direction h : horizontals) {
+                    for (Direction v : verticals) {
+                        animationTable[animationIndex(s, d, h, v)] = getAnimation(s, resolveDirectionForState(s, d, h, v));
+                    }
+                }
+            }
+        }
+    }
+
     protected Direction resolveDirectionForState(State state, Direction baseDirection) {
+        return resolveDirectionForState(state, baseDirection, lastHorizontal, lastVertical);
+    }
+
+    protected Direction resolveDirectionForState(State state, Direction baseDirection, Direction lastHorizontal, Direction lastVertical) {
         EnumMap<Direction, Animation<TextureRegion>> stateAnimations = animations.get(state);
         if (stateAnimations != null && stateAnimations.containsKey(baseDirection)) {
             return baseDirection;
@@ -6,6 +6,7 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.utils.Array;
+import fr.shogaro.testgame.systems.TextureCache;
 
 public class Mob {
     private int healthMax;
@@ -21,13 +22,15 @@ public class Mob {
     private Animation<TextureRegion> leftAnimation;
     private Animation<TextureRegion> rightAnimation;
     private TextureRegion currentFrame;
-    private final Array<Texture> animationTextures = new Array<>();
+    private final TextureCache textureCache;
+    private final Array<String> texturePaths = new Array<>();
     private float stateTime;
     private boolean facingRight = true;
 
     private final Rectangle hitbox = new Rectangle();
     private final Rectangle attackHitbox = new Rectangle();
-    public Mob(float x, float y, float width, float height, float speed, int damage, int health, String basePath) {
+    public Mob(float x, float y, float width, float height, float speed, int damage, int health, String basePath, TextureCache textureCache) {
+        this.textureCache = textureCache;
         this.healthMax = health;
         this.healthCurrent = health;
         this.x = x;
@@ -75,9 +78,10 @@ public class Mob {
     }
 
     public void dispose() {
-        for (Texture texture : animationTextures) {
-            texture.dispose();
+        for (String path : texturePaths) {
+            textureCache.release(path);
         }
+        texturePaths.clear();
     }
 
     public Rectangle getHitbox() {
@@ -122,8 +126,8 @@ public class Mob {
         Array<TextureRegion> frames = new Array<>();
         for (int i = 1; i <= frameCount; i++) {
             String path = basePath + "/" + framePrefix + i + ".png";
-            Texture texture = new Texture(path);
-            animationTextures.add(texture);
+            Texture texture = textureCache.acquire(path);
+            texturePaths.add(path);
             frames.add(new TextureRegion(texture));
         }
         return new Animation<>(frameDuration, frames);
@@ -4,6 +4,7 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import fr.shogaro.testgame.systems.TextureCache;
 
 public class Warrior extends Character{
 
@@ -14,8 +15,8 @@ public class Warrior extends Character{
     private static float ATTACK_RANGE = 1.5f;
     private static float SPEED = 125;
 
-    public Warrior(float x, float y, float width, float height) {
-        super(HEALTH_MAX, DAMAGE, ATTACK_SPEED, ATTACK_RANGE, SPEED);
+    public Warrior(float x, float y, float width, float height, TextureCache textureCache) {
+        super(HEALTH_MAX, DAMAGE, ATTACK_SPEED, ATTACK_RANGE, SPEED, textureCache);
 
         System.out.println("x recu = " + x);
         System.out.println("y recu = " + y);
@@ -26,7 +27,7 @@ public class Warrior extends Character{
         this.height = height;
 
         loadAnimations();
-        update(0f, null, null, 0);
+        update(0f, null, null);
     }
 
 
@@ -0,0 +1,54 @@
+package fr.shogaro.testgame.render;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+// Filled and outlined rectangles drawn with a stretched 1x1 white texel, so bars and
+// debug boxes go through the SpriteBatch that draws the sprites instead of a ShapeRenderer pass.
+public class BatchShapes {
+    private final Texture texture;
+    private final TextureRegion white;
+
+    public BatchShapes() {
+        Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+        pixmap.setColor(Color.WHITE);
+        pixmap.fill();
+        texture = new Texture(pixmap);
+        pixmap.dispose();
+        white = new TextureRegion(texture);
+    }
+
+    public void fill(SpriteBatch batch, float x, float y, float width, float height, float r, float g, float b, float a) {
+        float previous = batch.getPackedColor();
+        batch.setColor(r, g, b, a);
+        batch.draw(white, x, y, width, height);
+        batch.setPackedColor(previous);
+    }
+
+    public void fill(SpriteBatch batch, float x, float y, float width, float height, Color color) {
+        fill(batch, x, y, width, height, color.r, color.g, color.b, color.a);
+    }
+
+    // Border of the given thickness drawn inside the rectangle.
+    public void outline(SpriteBatch batch, float x, float y, float width, float height, float thickness,
+                        float r, float g, float b, float a) {
+        float previous = batch.getPackedColor();
+        batch.setColor(r, g, b, a);
+        batch.draw(white, x, y, width, thickness);
+        batch.draw(white, x, y + height - thickness, width, thickness);
+        batch.draw(white, x, y + thickness, thickness, height - thickness * 2f);
+        batch.draw(white, x + width - thickness, y + thickness, thickness, height - thickness * 2f);
+        batch.setPackedColor(previous);
+    }
+
+    public void outline(SpriteBatch batch, float x, float y, float width, float height, float thickness, Color color) {
+        outline(batch, x, y, width, height, thickness, color.r, color.g, color.b, color.a);
+    }
+
+    public void dispose() {
+        texture.dispose();
+    }
+}
@@ -6,7 +6,7 @@ import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.utils.ScreenUtils;
 import fr.shogaro.testgame.CharacterType;
 import fr.shogaro.testgame.Main;
@@ -14,25 +14,40 @@ import fr.shogaro.testgame.entities.Assassin;
 import fr.shogaro.testgame.entities.Character;
 import fr.shogaro.testgame.entities.Mob;
 import fr.shogaro.testgame.entities.Warrior;
+import fr.shogaro.testgame.render.BatchShapes;
 import fr.shogaro.testgame.systems.AssetStore;
+import fr.shogaro.testgame.systems.SpatialGrid;
+import fr.shogaro.testgame.systems.TextureCache;
 
 import java.util.ArrayList;
 import java.util.List;
 
 public class GameScreen implements Screen {
+    // Hitbox overlay; false compiles renderHitboxes out.
+    private static final boolean DEBUG_HITBOXES = true;
+    private static final Color BAR_BACKGROUND = new Color(0.1f, 0.1f, 0.1f, 0.85f);
+    private static final Color PLAYER_BAR = new Color(0.2f, 0.9f, 0.2f, 1f);
+    private static final Color MOB_BAR = new Color(0.9f, 0.2f, 0.2f, 1f);
+    private static final Color MOB_HITBOX = new Color(0f, 0.6f, 1f, 1f);
+    private static final Color MOB_ATTACK_HITBOX = new Color(1f, 0.6f, 0f, 1f);
+
     private final Main game;
     private final SpriteBatch batch;
-    private final ShapeRenderer shapeRenderer;
+    private final BatchShapes shapes;
     private final AssetStore assetStore;
+    private final TextureCache textureCache;
     private final Texture mapTexture;
     private Character player;
     private List<Mob> mobs = new ArrayList<>();
+    private SpatialGrid mobHitboxes;
+    private SpatialGrid mobAttackHitboxes;
 
     public GameScreen(Main game, CharacterType selection) {
         this.game = game;
         this.batch = game.getBatch();
-        this.shapeRenderer = game.getShapeRenderer();
+        this.shapes = game.getBatchShapes();
         this.assetStore = game.getAssetStore();
+        this.textureCache = game.getTextureCache();
         this.mapTexture = assetStore.getMapTexture();
         startGame(selection);
     }
@@ -51,52 +66,40 @@ public class GameScreen implements Screen {
         }
 
         player.move();
-        player.update(delta, null, null, 0);
-
-        Mob closestMob = null;
-        float closestDistance = Float.MAX_VALUE;
-        float playerCenterX = player.getX() + player.getWidth() * 0.5f;
-        float playerCenterY = player.getY() + player.getHeight() * 0.5f;
 
-        for (Mob mob : mobs) {
+        int aliveCount = 0;
+        mobHitboxes.begin();
+        mobAttackHitboxes.begin();
+        for (int i = 0; i < mobs.size(); i++) {
+            Mob mob = mobs.get(i);
             if (mob.getHealthCurrent() <= 0) {
                 continue;
             }
 
             mob.update(delta, player.getX(), player.getY(), player.getWidth(), player.getHeight());
-
-            if (mob.getAttackHitbox().overlaps(player.getHurtHitbox())) {
-                player.applyDamage(mob.getDamage());
-            }
-
-            if (mob.getHitbox().overlaps(player.getAttackHitbox())) {
-                float mobCenterX = mob.getHitbox().x + mob.getHitbox().width * 0.5f;
-                float mobCenterY = mob.getHitbox().y + mob.getHitbox().height * 0.5f;
-                float dx = mobCenterX - playerCenterX;
-                float dy = mobCenterY - playerCenterY;
-                float distance = dx * dx + dy * dy;
-                if (distance < closestDistance) {
-                    closestDistance = distance;
-                    closestMob = mob;
-                }
-            }
+            mobHitboxes.add(mob.getHitbox(), i);
+            mobAttackHitboxes.add(mob.getAttackHitbox(), mob.getDamage());
+            aliveCount++;
         }
+        mobHitboxes.build();
+        mobAttackHitboxes.build();
 
-        if (closestMob != null && player.tryTriggerAttack()) {
-            if (player.consumeAttackTriggered()) {
-                closestMob.takingDamage(player.getAttackDamage());
-            }
-        }
+        player.update(delta, mobHitboxes, mobAttackHitboxes);
 
-        boolean anyAlive = false;
-        for (Mob mob : mobs) {
-            if (mob.getHealthCurrent() > 0) {
-                anyAlive = true;
-                break;
+        if (player.consumeAttackTriggered()) {
+            float playerCenterX = player.getX() + player.getWidth() * 0.5f;
+            float playerCenterY = player.getY() + player.getHeight() * 0.5f;
+            int target = mobHitboxes.nearest(playerCenterX, playerCenterY, player.getAttackHitbox());
+            if (target != -1) {
+                Mob closestMob = mobs.get(mobHitboxes.getValue(target));
+                closestMob.takingDamage(player.getAttackDamage());
+                if (closestMob.getHealthCurrent() <= 0) {
+                    aliveCount--;
+                }
             }
         }
 
-        if (!anyAlive) {
+        if (aliveCount == 0) {
             game.showEnd("GG");
             return;
         }
@@ -114,10 +117,11 @@ public class GameScreen implements Screen {
                 mob.render(batch);
             }
         }
-        batch.end();
-
         renderHealthBars();
-        renderHitboxes();
+        if (DEBUG_HITBOXES) {
+            renderHitboxes();
+        }
+        batch.end();
     }
 
     private void startGame(CharacterType selection) {
@@ -127,14 +131,17 @@ public class GameScreen implements Screen {
         float height = 150f;
 
         if (selection == CharacterType.IOP) {
-            player = new Warrior(startX, startY, width, height);
+            player = new Warrior(startX, startY, width, height, textureCache);
         } else {
-            player = new Assassin(startX, startY, width, height);
+            player = new Assassin(startX, startY, width, height, textureCache);
         }
 
         mobs = new ArrayList<>();
         float mobWidth = 70f;
         float mobHeight = 70f;
+        float cellSize = SpatialGrid.cellSizeFor(mobWidth, mobHeight);
+        mobHitboxes = new SpatialGrid(Gdx.graphics.getWidth(), Gdx.graphics.getHeight(), cellSize);
+        mobAttackHitboxes = new SpatialGrid(Gdx.graphics.getWidth(), Gdx.graphics.getHeight(), cellSize);
         float margin = 80f;
         float minX = margin;
         float maxX = Gdx.graphics.getWidth() - mobWidth - margin;
@@ -143,7 +150,7 @@ public class GameScreen implements Screen {
         for (int i = 0; i < 10; i++) {
             float mobX = minX + (float) Math.random() * Math.max(1f, maxX - minX);
             float mobY = minY + (float) Math.random() * Math.max(1f, maxY - minY);
-            mobs.add(new Mob(mobX, mobY, mobWidth, mobHeight, 90f, 10, 60, "mobs/piou"));
+            mobs.add(new Mob(mobX, mobY, mobWidth, mobHeight, 90f, 10, 60, "mobs/piou", textureCache));
         }
     }
 
@@ -157,13 +164,10 @@ public class GameScreen implements Screen {
 
         float playerRatio = player.getHealthMax() > 0 ? (float) player.getHealthCurrent() / player.getHealthMax() : 0f;
         float playerFill = barWidth * Math.max(0f, Math.min(1f, playerRatio));
+        shapes.fill(batch, playerX, playerY, barWidth, barHeight, BAR_BACKGROUND);
+        shapes.fill(batch, playerX, playerY, playerFill, barHeight, PLAYER_BAR);
+        shapes.outline(batch, playerX, playerY, barWidth, barHeight, 1f, Color.WHITE);
 
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-        shapeRenderer.setColor(0.1f, 0.1f, 0.1f, 0.85f);
-        shapeRenderer.rect(playerX, playerY, barWidth, barHeight);
-        shapeRenderer.setColor(0.2f, 0.9f, 0.2f, 1f);
-        shapeRenderer.rect(playerX, playerY, playerFill, barHeight);
-        shapeRenderer.setColor(0.9f, 0.2f, 0.2f, 1f);
         for (Mob mob : mobs) {
             if (mob.getHealthCurrent() <= 0) {
                 continue;
@@ -174,46 +178,26 @@ public class GameScreen implements Screen {
             float mobY = mob.getHitbox().y + mob.getHitbox().height + 8f;
             float mobRatio = mob.getHealthMax() > 0 ? (float) mob.getHealthCurrent() / mob.getHealthMax() : 0f;
             float mobFill = mobBarWidth * Math.max(0f, Math.min(1f, mobRatio));
-            shapeRenderer.setColor(0.1f, 0.1f, 0.1f, 0.85f);
-            shapeRenderer.rect(mobX, mobY, mobBarWidth, mobBarHeight);
-            shapeRenderer.setColor(0.9f, 0.2f, 0.2f, 1f);
-            shapeRenderer.rect(mobX, mobY, mobFill, mobBarHeight);
+            shapes.fill(batch, mobX, mobY, mobBarWidth, mobBarHeight, BAR_BACKGROUND);
+            shapes.fill(batch, mobX, mobY, mobFill, mobBarHeight, MOB_BAR);
+            shapes.outline(batch, mobX, mobY, mobBarWidth, mobBarHeight, 1f, Color.WHITE);
         }
-        shapeRenderer.end();
-
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
-        shapeRenderer.setColor(1f, 1f, 1f, 1f);
-        shapeRenderer.rect(playerX, playerY, barWidth, barHeight);
-        for (Mob mob : mobs) {
-            if (mob.getHealthCurrent() <= 0) {
-                continue;
-            }
-            float mobBarWidth = Math.max(40f, mob.getHitbox().width);
-            float mobBarHeight = 8f;
-            float mobX = mob.getHitbox().x + (mob.getHitbox().width - mobBarWidth) * 0.5f;
-            float mobY = mob.getHitbox().y + mob.getHitbox().height + 8f;
-            shapeRenderer.rect(mobX, mobY, mobBarWidth, mobBarHeight);
-        }
-        shapeRenderer.end();
     }
 
     private void renderHitboxes() {
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
-        shapeRenderer.setColor(Color.GREEN);
-        shapeRenderer.rect(player.getHurtHitbox().x, player.getHurtHitbox().y, player.getHurtHitbox().width, player.getHurtHitbox().height);
-        shapeRenderer.setColor(Color.RED);
-        shapeRenderer.rect(player.getAttackHitbox().x, player.getAttackHitbox().y, player.getAttackHitbox().width, player.getAttackHitbox().height);
-        shapeRenderer.setColor(0f, 0.6f, 1f, 1f);
+        outline(player.getHurtHitbox(), Color.GREEN);
+        outline(player.getAttackHitbox(), Color.RED);
         for (Mob mob : mobs) {
             if (mob.getHealthCurrent() <= 0) {
                 continue;
             }
-            shapeRenderer.rect(mob.getHitbox().x, mob.getHitbox().y, mob.getHitbox().width, mob.getHitbox().height);
-            shapeRenderer.setColor(1f, 0.6f, 0f, 1f);
-            shapeRenderer.rect(mob.getAttackHitbox().x, mob.getAttackHitbox().y, mob.getAttackHitbox().width, mob.getAttackHitbox().height);
-            shapeRenderer.setColor(0f, 0.6f, 1f, 1f);
+            outline(mob.getHitbox(), MOB_HITBOX);
+            outline(mob.getAttackHitbox(), MOB_ATTACK_HITBOX);
         }
-        shapeRenderer.end();
+    }
+
+    private void outline(Rectangle box, Color color) {
+        shapes.outline(batch, box.x, box.y, box.width, box.height, 1f, color);
     }
 
     @Override
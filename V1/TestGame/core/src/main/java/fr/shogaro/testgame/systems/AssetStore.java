@@ -10,10 +10,15 @@ public class AssetStore {
     private Texture mapTexture;
     private Animation<TextureRegion> iopIdleAnimation;
     private Animation<TextureRegion> sramIdleAnimation;
-    private final Array<Texture> ownedTextures = new Array<>();
+    private final TextureCache textureCache;
+    private final Array<String> texturePaths = new Array<>();
+
+    public AssetStore(TextureCache textureCache) {
+        this.textureCache = textureCache;
+    }
 
     public void load() {
-        mapTexture = new Texture("maps/map.png");
+        mapTexture = acquire("maps/map.png");
         iopIdleAnimation = buildAnimationSeries("characters/iop/movement/animatedBottom", "viewBottom", 4, 0.15f);
         sramIdleAnimation = buildAnimationSeries("characters/sram/movement/animatedBottom", "viewBottom", 4, 0.15f);
     }
@@ -30,19 +35,21 @@ public class AssetStore {
         Array<TextureRegion> frames = new Array<>();
         for (int i = 1; i <= frameCount; i++) {
             String path = basePath + "/" + framePrefix + i + ".png";
-            Texture texture = new Texture(path);
-            ownedTextures.add(texture);
-            frames.add(new TextureRegion(texture));
+            frames.add(new TextureRegion(acquire(path)));
         }
         return new Animation<>(frameDuration, frames);
     }
 
+    private Texture acquire(String path) {
+        texturePaths.add(path);
+        return textureCache.acquire(path);
+    }
+
     public void dispose() {
-        if (mapTexture != null) {
-            mapTexture.dispose();
-        }
-        for (Texture texture : ownedTextures) {
-            texture.dispose();
+        for (String path : texturePaths) {
+            textureCache.release(path);
         }
+        texturePaths.clear();
+        mapTexture = null;
     }
 }
@@ -0,0 +1,177 @@
+package fr.shogaro.testgame.systems;
+
+import com.badlogic.gdx.math.Rectangle;
+
+import java.util.Arrays;
+
+// Uniform grid broadphase for hitboxes, rebuilt every tick: begin(), add(), build(), then query.
+// Boxes outside the world are clamped into the border cells, so queries stay correct.
+public class SpatialGrid {
+    private final float cellSize;
+    private final int columns;
+    private final int rows;
+
+    // ids of cell c are cellItems[cellStart[c] .. cellStart[c + 1]).
+    private final int[] cellStart;
+    private final int[] cellCursor;
+    private int[] cellItems = new int[64];
+
+    private float[] minX = new float[32];
+    private float[] minY = new float[32];
+    private float[] maxX = new float[32];
+    private float[] maxY = new float[32];
+    private int[] values = new int[32];
+    private int itemCount;
+
+    public SpatialGrid(float worldWidth, float worldHeight, float cellSize) {
+        this.cellSize = Math.max(1f, cellSize);
+        this.columns = Math.max(1, (int) Math.ceil(worldWidth / this.cellSize));
+        this.rows = Math.max(1, (int) Math.ceil(worldHeight / this.cellSize));
+        this.cellStart = new int[columns * rows + 1];
+        this.cellCursor = new int[columns * rows];
+    }
+
+    // Each box then covers at most 2x2 cells.
+    public static float cellSizeFor(float maxBoxWidth, float maxBoxHeight) {
+        return Math.max(maxBoxWidth, maxBoxHeight);
+    }
+
+    public void begin() {
+        itemCount = 0;
+    }
+
+    public int add(Rectangle bounds, int value) {
+        if (itemCount == minX.length) {
+            int capacity = itemCount * 2;
+            minX = Arrays.copyOf(minX, capacity);
+            minY = Arrays.copyOf(minY, capacity);
+            maxX = Arrays.copyOf(maxX, capacity);
+            maxY = Arrays.copyOf(maxY, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        int id = itemCount++;
+        minX[id] = bounds.x;
+        minY[id] = bounds.y;
+        maxX[id] = bounds.x + bounds.width;
+        maxY[id] = bounds.y + bounds.height;
+        values[id] = value;
+        return id;
+    }
+
+    public void build() {
+        Arrays.fill(cellStart, 0);
+        for (int id = 0; id < itemCount; id++) {
+            int cx0 = cellX(minX[id]);
+            int cx1 = cellX(maxX[id]);
+            int cy0 = cellY(minY[id]);
+            int cy1 = cellY(maxY[id]);
+            for (int cy = cy0; cy <= cy1; cy++) {
+                for (int cx = cx0; cx <= cx1; cx++) {
+                    cellStart[cy * columns + cx + 1]++;
+                }
+            }
+        }
+        for (int c = 1; c < cellStart.length; c++) {
+            cellStart[c] += cellStart[c - 1];
+        }
+        int total = cellStart[cellStart.length - 1];
+        if (total > cellItems.length) {
+            cellItems = new int[Math.max(total, cellItems.length * 2)];
+        }
+        System.arraycopy(cellStart, 0, cellCursor, 0, cellCursor.length);
+        for (int id = 0; id < itemCount; id++) {
+            int cx0 = cellX(minX[id]);
+            int cx1 = cellX(maxX[id]);
+            int cy0 = cellY(minY[id]);
+            int cy1 = cellY(maxY[id]);
+            for (int cy = cy0; cy <= cy1; cy++) {
+                for (int cx = cx0; cx <= cx1; cx++) {
+                    cellItems[cellCursor[cy * columns + cx]++] = id;
+                }
+            }
+        }
+    }
+
+    public int size() {
+        return itemCount;
+    }
+
+    public int getValue(int id) {
+        return values[id];
+    }
+
+    public boolean overlapsAny(Rectangle area) {
+        return firstOverlap(area) != -1;
+    }
+
+    public int firstOverlap(Rectangle area) {
+        float ax0 = area.x;
+        float ay0 = area.y;
+        float ax1 = area.x + area.width;
+        float ay1 = area.y + area.height;
+        int best = -1;
+        int cx0 = cellX(ax0);
+        int cx1 = cellX(ax1);
+        int cy0 = cellY(ay0);
+        int cy1 = cellY(ay1);
+        for (int cy = cy0; cy <= cy1; cy++) {
+            for (int cx = cx0; cx <= cx1; cx++) {
+                int cell = cy * columns + cx;
+                for (int i = cellStart[cell], end = cellStart[cell + 1]; i < end; i++) {
+                    int id = cellItems[i];
+                    if ((best == -1 || id < best) && overlaps(id, ax0, ay0, ax1, ay1)) {
+                        best = id;
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    // Ties go to the lowest id, like a linear scan in insertion order.
+    public int nearest(float x, float y, Rectangle area) {
+        float ax0 = area.x;
+        float ay0 = area.y;
+        float ax1 = area.x + area.width;
+        float ay1 = area.y + area.height;
+        int best = -1;
+        float bestDistance = Float.MAX_VALUE;
+        int cx0 = cellX(ax0);
+        int cx1 = cellX(ax1);
+        int cy0 = cellY(ay0);
+        int cy1 = cellY(ay1);
+        for (int cy = cy0; cy <= cy1; cy++) {
+            for (int cx = cx0; cx <= cx1; cx++) {
+                int cell = cy * columns + cx;
+                for (int i = cellStart[cell], end = cellStart[cell + 1]; i < end; i++) {
+                    int id = cellItems[i];
+                    if (!overlaps(id, ax0, ay0, ax1, ay1)) {
+                        continue;
+                    }
+                    float dx = (minX[id] + maxX[id]) * 0.5f - x;
+                    float dy = (minY[id] + maxY[id]) * 0.5f - y;
+                    float distance = dx * dx + dy * dy;
+                    if (distance < bestDistance || (distance == bestDistance && id < best)) {
+                        bestDistance = distance;
+                        best = id;
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    private boolean overlaps(int id, float ax0, float ay0, float ax1, float ay1) {
+        return minX[id] < ax1 && maxX[id] > ax0 && minY[id] < ay1 && maxY[id] > ay0;
+    }
+
+    private int cellX(float x) {
+        int cx = (int) Math.floor(x / cellSize);
+        return cx < 0 ? 0 : (cx >= columns ? columns - 1 : cx);
+    }
+
+    private int cellY(float y) {
+        int cy = (int) Math.floor(y / cellSize);
+        return cy < 0 ? 0 : (cy >= rows ? rows - 1 : cy);
+    }
+}
@@ -0,0 +1,52 @@
+package fr.shogaro.testgame.systems;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+
+// Shared textures keyed by path, loaded once and reference counted.
+// Every acquire() must be paired with a release() of the same path.
+public class TextureCache {
+    private final ObjectMap<String, Texture> textures = new ObjectMap<>();
+    private final ObjectIntMap<String> references = new ObjectIntMap<>();
+
+    public Texture acquire(String path) {
+        Texture texture = textures.get(path);
+        if (texture == null) {
+            texture = new Texture(path);
+            textures.put(path, texture);
+        }
+        references.getAndIncrement(path, 0, 1);
+        return texture;
+    }
+
+    // The texture is disposed when its last user releases it.
+    public void release(String path) {
+        int count = references.get(path, 0);
+        if (count <= 0) {
+            return;
+        }
+        if (count > 1) {
+            references.put(path, count - 1);
+            return;
+        }
+        references.remove(path, 0);
+        Texture texture = textures.remove(path);
+        if (texture != null) {
+            texture.dispose();
+        }
+    }
+
+    public int size() {
+        return textures.size;
+    }
+
+    // Disposes everything still loaded, whatever the reference counts.
+    public void dispose() {
+        for (Texture texture : textures.values()) {
+            texture.dispose();
+        }
+        textures.clear();
+        references.clear();
+    }
+}
@@ -0,0 +1,76 @@
+package io.github.sufod.benchmarks;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.PooledEngine;
+import io.github.sufod.components.AnimationComponent;
+import io.github.sufod.components.CombatComponent;
+import io.github.sufod.components.FacingComponent;
+import io.github.sufod.components.VelocityComponent;
+import io.github.sufod.entities.Direction;
+import io.github.sufod.graphics.EntityAnimations;
+import io.github.sufod.systems.AnimationSystem;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+// Frame selection for animated entities (the old Character.getCurrentFrame path),
+// with a mix of idle, walking and attacking entities in every direction.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AnimationBenchmark {
+    @Param({"100", "1000", "10000", "100000"})
+    public int entityCount;
+
+    private PooledEngine engine;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        engine = new PooledEngine();
+        EntityAnimations animations = Fixtures.animations();
+        Direction[] directions = Direction.values();
+        for (int i = 0; i < entityCount; i++) {
+            Entity entity = engine.createEntity();
+            AnimationComponent animation = engine.createComponent(AnimationComponent.class);
+            animation.animations = animations;
+            animation.stateTime = i * 0.01f;
+            entity.add(animation);
+
+            FacingComponent facing = engine.createComponent(FacingComponent.class);
+            facing.direction = directions[i % directions.length];
+            facing.lastHorizontalSign = (i & 1) == 0 ? 1 : -1;
+            entity.add(facing);
+
+            VelocityComponent velocity = engine.createComponent(VelocityComponent.class);
+            velocity.velocity.set(i % 3 == 0 ? 0f : 1f, 0f);
+            entity.add(velocity);
+
+            CombatComponent combat = engine.createComponent(CombatComponent.class);
+            combat.attacking = i % 5 == 0;
+            entity.add(combat);
+
+            engine.addEntity(entity);
+        }
+        engine.addSystem(new AnimationSystem());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        engine.removeAllSystems();
+        engine.removeAllEntities();
+    }
+
+    @Benchmark
+    public PooledEngine resolveFrames() {
+        engine.update(Fixtures.STEP);
+        return engine;
+    }
+}
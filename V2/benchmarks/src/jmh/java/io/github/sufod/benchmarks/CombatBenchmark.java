@@ -0,0 +1,108 @@
+package io.github.sufod.benchmarks;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.PooledEngine;
+import com.badlogic.gdx.utils.IntArray;
+import io.github.sufod.components.CombatComponent;
+import io.github.sufod.components.Mappers;
+import io.github.sufod.entities.EntityFactory;
+import io.github.sufod.entities.MobStore;
+import io.github.sufod.sim.HitLog;
+import io.github.sufod.sim.SpatialGrid;
+import io.github.sufod.systems.AttackSystem;
+import io.github.sufod.systems.CombatSystem;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+// One player attack into a crowd through CombatSystem (a linear scan for a single attacker),
+// and the two mob lookups it chooses between: scanning the arrays, or building the grid and
+// querying it. Mobs never die, so every invocation does the same work.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CombatBenchmark {
+    private static final float PLAYER_X = 960f;
+    private static final float PLAYER_Y = 540f;
+
+    @Param({"100", "1000", "10000", "100000"})
+    public int entityCount;
+
+    private MobStore mobs;
+    private PooledEngine engine;
+    private CombatComponent playerCombat;
+    private final HitLog hits = new HitLog();
+    private final IntArray targets = new IntArray();
+    private SpatialGrid grid;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mobs = new MobStore(entityCount);
+        int type = mobs.registerType("piou", Fixtures.piou().stats);
+        for (int i = 0; i < entityCount; i++) {
+            int slot = mobs.add(type, (i * 97f) % Fixtures.WORLD_WIDTH, (i * 61f) % Fixtures.WORLD_HEIGHT);
+            mobs.health[slot] = Integer.MAX_VALUE;
+        }
+        engine = new PooledEngine();
+        Entity player = new EntityFactory(engine).createPlayer(PLAYER_X, PLAYER_Y, Fixtures.playerStats(), null);
+        playerCombat = Mappers.combat.get(player);
+        engine.addSystem(new AttackSystem());
+        grid = new SpatialGrid(Fixtures.WORLD_WIDTH, Fixtures.WORLD_HEIGHT, 64f);
+        engine.addSystem(new CombatSystem(mobs, grid, hits));
+        grid.build(mobs.x, mobs.y, mobs.size());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        engine.removeAllSystems();
+        engine.removeAllEntities();
+    }
+
+    @Benchmark
+    public HitLog combatSystem() {
+        playerCombat.timeSinceLastAttack = Float.MAX_VALUE;
+        hits.clear();
+        engine.update(Fixtures.STEP);
+        return hits;
+    }
+
+    @Benchmark
+    public IntArray scanMobs() {
+        targets.clear();
+        float range2 = playerCombat.attackRange * playerCombat.attackRange;
+        float[] xs = mobs.x;
+        float[] ys = mobs.y;
+        for (int i = 0, n = mobs.size(); i < n; i++) {
+            float dx = xs[i] - PLAYER_X;
+            float dy = ys[i] - PLAYER_Y;
+            if (dx * dx + dy * dy <= range2) {
+                targets.add(i);
+            }
+        }
+        return targets;
+    }
+
+    @Benchmark
+    public IntArray buildAndQueryGrid() {
+        targets.clear();
+        grid.build(mobs.x, mobs.y, mobs.size());
+        grid.query(PLAYER_X, PLAYER_Y, playerCombat.attackRange, targets);
+        return targets;
+    }
+
+    // Query cost alone, once per extra attacker after the grid is built.
+    @Benchmark
+    public IntArray queryGrid() {
+        targets.clear();
+        grid.query(PLAYER_X, PLAYER_Y, playerCombat.attackRange, targets);
+        return targets;
+    }
+}
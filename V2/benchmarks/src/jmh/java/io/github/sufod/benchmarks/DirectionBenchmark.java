@@ -0,0 +1,28 @@
+package io.github.sufod.benchmarks;
+
+import io.github.sufod.entities.Direction;
+import io.github.sufod.graphics.DirectionUtils;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+// DirectionUtils.toClosestDiagonal over every direction and both horizontal signs.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DirectionBenchmark {
+    private final Direction[] directions = Direction.values();
+
+    @Benchmark
+    public void toClosestDiagonal(Blackhole blackhole) {
+        for (Direction dir : directions) {
+            blackhole.consume(DirectionUtils.toClosestDiagonal(dir, -1));
+            blackhole.consume(DirectionUtils.toClosestDiagonal(dir, 1));
+        }
+    }
+}
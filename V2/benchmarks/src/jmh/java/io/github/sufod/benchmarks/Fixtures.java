@@ -0,0 +1,106 @@
+package io.github.sufod.benchmarks;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import io.github.sufod.characters.CharacterStats;
+import io.github.sufod.entities.Direction;
+import io.github.sufod.graphics.EntityAnimations;
+import io.github.sufod.input.InputSource;
+import io.github.sufod.mobs.MobDefinition;
+import io.github.sufod.mobs.MobStats;
+import java.util.EnumMap;
+import java.util.Map;
+
+// Game data built in code, so benchmarks need neither asset files nor a GL context.
+final class Fixtures {
+    static final float STEP = 1f / 60f;
+    static final float WORLD_WIDTH = 1920f;
+    static final float WORLD_HEIGHT = 1080f;
+    // Seed for the simulation's random stream, so every run spawns the same waves.
+    static final long SEED = 1L;
+
+    private Fixtures() {
+    }
+
+    // Same numbers as the piou entry in mobs.json.
+    static MobDefinition piou() {
+        MobStats stats = new MobStats();
+        stats.maxHealth = 25;
+        stats.attackDamage = 6;
+        stats.speed = 115f;
+        stats.attackSpeed = 0.8f;
+        MobDefinition def = new MobDefinition();
+        def.id = "piou";
+        def.name = "Piou";
+        def.stats = stats;
+        return def;
+    }
+
+    // Enough health that the player never dies during a run.
+    static CharacterStats playerStats() {
+        CharacterStats stats = new CharacterStats();
+        stats.maxHealth = Integer.MAX_VALUE;
+        stats.attackDamage = 10;
+        stats.speed = 150f;
+        stats.attackSpeed = 1f;
+        stats.attackRange = 80f;
+        return stats;
+    }
+
+    // Holds up-right forever.
+    static InputSource upRight() {
+        return new InputSource() {
+            @Override
+            public boolean isUp() {
+                return true;
+            }
+
+            @Override
+            public boolean isDown() {
+                return false;
+            }
+
+            @Override
+            public boolean isLeft() {
+                return false;
+            }
+
+            @Override
+            public boolean isRight() {
+                return true;
+            }
+        };
+    }
+
+    static Array<Vector2> spawnPoints(int count) {
+        Array<Vector2> points = new Array<>(count);
+        for (int i = 0; i < count; i++) {
+            points.add(new Vector2(40f + (i * 97f) % (WORLD_WIDTH - 80f), 40f + (i * 61f) % (WORLD_HEIGHT - 80f)));
+        }
+        return points;
+    }
+
+    // Four-frame animations in every direction, backed by empty regions instead of an atlas.
+    static EntityAnimations animations() {
+        Array<TextureRegion> frames = new Array<>();
+        for (int i = 0; i < 4; i++) {
+            frames.add(new TextureRegion());
+        }
+        return new EntityAnimations(
+            null,
+            directional(frames, Animation.PlayMode.LOOP),
+            directional(frames, Animation.PlayMode.LOOP),
+            directional(frames, Animation.PlayMode.NORMAL)
+        );
+    }
+
+    private static Map<Direction, Animation<TextureRegion>> directional(Array<TextureRegion> frames, Animation.PlayMode mode) {
+        Map<Direction, Animation<TextureRegion>> map = new EnumMap<>(Direction.class);
+        for (Direction dir : Direction.values()) {
+            map.put(dir, new Animation<>(0.12f, frames, mode));
+        }
+        return map;
+    }
+}
@@ -0,0 +1,84 @@
+package io.github.sufod.benchmarks;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessFiles;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.Array;
+import io.github.sufod.content.ContentDatabase;
+import io.github.sufod.content.ContentWriter;
+import io.github.sufod.graphics.AnimationConfigFormat;
+import io.github.sufod.graphics.AnimationConfigLoader;
+import io.github.sufod.graphics.AtlasFormat;
+import io.github.sufod.graphics.EntityAnimationConfig;
+import io.github.sufod.mobs.MobDefinition;
+import io.github.sufod.mobs.MobDefinitionFormat;
+import io.github.sufod.mobs.MobRepository;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// Parsing of the real data files from the classpath (assets are jmh resources).
+// Only the CPU side of AnimationConfigLoader is measured: building textures needs GL.
+// The compiled* benchmarks read the same files from an in-memory content database.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LoadingBenchmark {
+    private MobRepository mobRepository;
+    private AnimationConfigLoader animationLoader;
+    private MobRepository compiledMobRepository;
+    private AnimationConfigLoader compiledAnimationLoader;
+    private ContentDatabase content;
+
+    @Setup
+    public void setUp() {
+        Gdx.files = new HeadlessFiles();
+        mobRepository = new MobRepository();
+        animationLoader = new AnimationConfigLoader();
+
+        ContentWriter writer = new ContentWriter();
+        writer.add("mobs/mobs.json", MobDefinitionFormat.INSTANCE, mobRepository.load("mobs/mobs.json"));
+        writer.add("animations/playable/iop.json", AnimationConfigFormat.INSTANCE,
+            animationLoader.loadConfig("animations/playable/iop.json"));
+        writer.add("atlases/iop.atlas", AtlasFormat.INSTANCE, atlasData());
+        content = new ContentDatabase(ByteBuffer.wrap(writer.toBytes()));
+        compiledMobRepository = new MobRepository(content);
+        compiledAnimationLoader = new AnimationConfigLoader(content);
+    }
+
+    @Benchmark
+    public Array<MobDefinition> mobRepository() {
+        return mobRepository.load("mobs/mobs.json");
+    }
+
+    @Benchmark
+    public EntityAnimationConfig animationConfig() {
+        return animationLoader.loadConfig("animations/playable/iop.json");
+    }
+
+    @Benchmark
+    public TextureAtlas.TextureAtlasData atlasData() {
+        return new TextureAtlas.TextureAtlasData(Gdx.files.internal("atlases/iop.atlas"), Gdx.files.internal("atlases"), false);
+    }
+
+    @Benchmark
+    public Array<MobDefinition> compiledMobRepository() {
+        return compiledMobRepository.load("mobs/mobs.json");
+    }
+
+    @Benchmark
+    public EntityAnimationConfig compiledAnimationConfig() {
+        return compiledAnimationLoader.loadConfig("animations/playable/iop.json");
+    }
+
+    @Benchmark
+    public TextureAtlas.TextureAtlasData compiledAtlasData() {
+        return content.read("atlases/iop.atlas", AtlasFormat.INSTANCE);
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.sufod.benchmarks;
+
+import com.badlogic.ashley.core.PooledEngine;
+import com.badlogic.gdx.utils.IntArray;
+import io.github.sufod.entities.EntityFactory;
+import io.github.sufod.entities.MobStore;
+import io.github.sufod.sim.FlowField;
+import io.github.sufod.systems.MobSystem;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+// One mob tick: the MobStore kernel on one thread, and MobSystem's chunked fork-join update,
+// both steering through a flow field towards a fixed player.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MobBenchmark {
+    @Param({"100", "1000", "10000", "100000"})
+    public int entityCount;
+
+    private MobStore mobs;
+    private FlowField flowField;
+    private final IntArray attacks = new IntArray();
+    private PooledEngine engine;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mobs = new MobStore(entityCount);
+        int type = mobs.registerType("piou", Fixtures.piou().stats);
+        for (int i = 0; i < entityCount; i++) {
+            mobs.add(type, (i * 97f) % Fixtures.WORLD_WIDTH, (i * 61f) % Fixtures.WORLD_HEIGHT);
+        }
+        flowField = new FlowField(Fixtures.WORLD_WIDTH, Fixtures.WORLD_HEIGHT, 32f);
+        flowField.update(960f, 540f);
+        engine = new PooledEngine();
+        new EntityFactory(engine).createPlayer(960f, 540f, Fixtures.playerStats(), null);
+        engine.addSystem(new MobSystem(mobs, flowField));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        engine.removeAllSystems();
+    }
+
+    @Benchmark
+    public IntArray updateSingleThread() {
+        attacks.clear();
+        mobs.update(0, mobs.size(), Fixtures.STEP, true, 960f, 540f, flowField, attacks);
+        return attacks;
+    }
+
+    @Benchmark
+    public FlowField rebuildFlowField() {
+        flowField.update(960f, 540f);
+        flowField.update(100f, 100f);
+        return flowField;
+    }
+
+    @Benchmark
+    public MobStore updateMobSystem() {
+        engine.update(Fixtures.STEP);
+        return mobs;
+    }
+}
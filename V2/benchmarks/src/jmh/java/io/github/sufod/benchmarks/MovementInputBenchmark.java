@@ -0,0 +1,34 @@
+package io.github.sufod.benchmarks;
+
+import com.badlogic.gdx.Input;
+import io.github.sufod.input.MovementInput;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// MovementInput.update with two movement keys held.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MovementInputBenchmark {
+    private final MovementInput input = new MovementInput();
+
+    @Setup
+    public void setUp() {
+        input.keyDown(Input.Keys.Z);
+        input.keyTyped('z');
+        input.keyDown(Input.Keys.D);
+        input.keyTyped('d');
+    }
+
+    @Benchmark
+    public boolean update() {
+        input.update();
+        return input.isUp() & input.isRight();
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.sufod.benchmarks;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.Array;
+import io.github.sufod.graphics.RenderQueue;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// Ordering a frame's sprites by depth: the RenderQueue radix sort against sorting
+// sprite objects with a comparator. Sprites are scattered over the world.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RenderQueueBenchmark {
+    @Param({"100", "1000", "10000"})
+    public int entityCount;
+
+    private final RenderQueue queue = new RenderQueue();
+    private final TextureRegion region = new TextureRegion();
+    private float[] xs;
+    private float[] ys;
+    private final Array<Sprite> sprites = new Array<>();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        RandomXS128 random = new RandomXS128(Fixtures.SEED);
+        xs = new float[entityCount];
+        ys = new float[entityCount];
+        for (int i = 0; i < entityCount; i++) {
+            xs[i] = random.nextFloat() * Fixtures.WORLD_WIDTH;
+            ys[i] = random.nextFloat() * Fixtures.WORLD_HEIGHT;
+            sprites.add(new Sprite(xs[i], ys[i]));
+        }
+    }
+
+    @Benchmark
+    public RenderQueue radixSort() {
+        queue.clear();
+        for (int i = 0; i < entityCount; i++) {
+            queue.add(RenderQueue.LAYER_ENTITIES, region, xs[i], ys[i]);
+        }
+        queue.sort();
+        return queue;
+    }
+
+    @Benchmark
+    public Array<Sprite> comparatorSort() {
+        for (int i = 0; i < entityCount; i++) {
+            Sprite sprite = sprites.get(i);
+            sprite.x = xs[i];
+            sprite.y = ys[i];
+        }
+        sprites.sort(Sprite.BY_DEPTH);
+        return sprites;
+    }
+
+    static final class Sprite {
+        static final Comparator<Sprite> BY_DEPTH = (a, b) -> Float.compare(b.y, a.y);
+
+        float x;
+        float y;
+
+        Sprite(float x, float y) {
+            this.x = x;
+            this.y = y;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.sufod.benchmarks;
+
+import com.badlogic.gdx.utils.Array;
+import io.github.sufod.boss.BossDefinition;
+import io.github.sufod.mobs.MobDefinition;
+import io.github.sufod.sim.Simulation;
+import io.github.sufod.waves.WaveConfig;
+import io.github.sufod.waves.WaveScript;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+// A full simulation tick (player input and movement, mobs, attacks, pruning, waves)
+// with one wave of entityCount mobs on the field.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SimulationBenchmark {
+    @Param({"100", "1000", "10000", "100000"})
+    public int entityCount;
+
+    private Simulation simulation;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Array<MobDefinition> mobDefs = new Array<>();
+        mobDefs.add(Fixtures.piou());
+        Array<String> ids = new Array<>();
+        ids.add("piou");
+        Array<WaveConfig> waves = new Array<>();
+        waves.add(new WaveConfig(false, entityCount, ids, false));
+        simulation = new Simulation(
+            Fixtures.WORLD_WIDTH,
+            Fixtures.WORLD_HEIGHT,
+            Fixtures.playerStats(),
+            960f,
+            540f,
+            Fixtures.upRight(),
+            mobDefs,
+            new Array<BossDefinition>(),
+            new WaveScript(waves, 0),
+            Fixtures.spawnPoints(64),
+            Fixtures.SEED
+        );
+        // Lift the spawn budget so the first tick spawns the whole wave.
+        simulation.getWaveManager().getScheduler().setBudget(0, 0f);
+        simulation.update(Fixtures.STEP);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        simulation.dispose();
+    }
+
+    @Benchmark
+    public Simulation tick() {
+        simulation.update(Fixtures.STEP);
+        return simulation;
+    }
+}
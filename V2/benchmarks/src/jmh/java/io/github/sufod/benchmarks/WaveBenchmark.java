@@ -0,0 +1,77 @@
+package io.github.sufod.benchmarks;
+
+import com.badlogic.ashley.core.PooledEngine;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+import io.github.sufod.boss.BossDefinition;
+import io.github.sufod.entities.EntityFactory;
+import io.github.sufod.entities.MobStore;
+import io.github.sufod.waves.WaveConfig;
+import io.github.sufod.waves.WaveManager;
+import io.github.sufod.waves.WaveState;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// WaveManager.update spawning a wave of entityCount mobs, clearing it, and moving on.
+// spawnWave measures the whole wave, spawnTick a single budgeted tick (the frame cost).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WaveBenchmark {
+    @Param({"100", "1000", "10000", "100000"})
+    public int entityCount;
+
+    private MobStore mobs;
+    private WaveManager waveManager;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mobs = new MobStore();
+        mobs.registerType("piou", Fixtures.piou().stats);
+        Array<String> ids = new Array<>();
+        ids.add("piou");
+        Array<WaveConfig> waves = new Array<>();
+        waves.add(new WaveConfig(false, entityCount, ids, false));
+        PooledEngine engine = new PooledEngine();
+        waveManager = new WaveManager(
+            waves,
+            0,
+            mobs,
+            engine,
+            new EntityFactory(engine),
+            new ObjectMap<String, BossDefinition>(),
+            Fixtures.spawnPoints(64),
+            new RandomXS128(Fixtures.SEED)
+        );
+    }
+
+    // SPAWN starts the wave and SPAWNING finishes it; once cleared, WAIT_CLEAR loops back to SPAWN.
+    @Benchmark
+    public MobStore spawnWave() {
+        do {
+            waveManager.update(Fixtures.STEP);
+        } while (waveManager.getState() == WaveState.SPAWNING);
+        mobs.clear();
+        waveManager.update(Fixtures.STEP);
+        return mobs;
+    }
+
+    // One tick of the wave loop; the mobs are cleared as soon as the wave is complete.
+    @Benchmark
+    public MobStore spawnTick() {
+        waveManager.update(Fixtures.STEP);
+        if (waveManager.getState() == WaveState.WAIT_CLEAR) {
+            mobs.clear();
+        }
+        return mobs;
+    }
+}
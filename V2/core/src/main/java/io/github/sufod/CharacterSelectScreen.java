@@ -1,6 +1,5 @@
 package io.github.sufod;
 
-import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.InputAdapter;
@@ -16,16 +15,16 @@ import com.badlogic.gdx.audio.Music;
 import io.github.sufod.characters.CharacterDefinition;
 import io.github.sufod.characters.CharacterRepository;
 import io.github.sufod.entities.Direction;
-import io.github.sufod.graphics.AnimationConfigLoader;
+import io.github.sufod.graphics.AnimationCache;
 import io.github.sufod.graphics.EntityAnimations;
 import com.badlogic.gdx.graphics.g2d.Animation;
 
 public class CharacterSelectScreen implements Screen {
-    private final Game game;
+    private final Main game;
     private SpriteBatch batch;
     private ShapeRenderer shapes;
     private BitmapFont font;
-    private AnimationConfigLoader animationLoader;
+    private AnimationCache animationCache;
     private Array<CharacterDefinition> characters;
     private Array<EntityAnimations> animations;
     private Array<Rectangle> cards;
@@ -33,7 +32,7 @@ public class CharacterSelectScreen implements Screen {
     private int selectedIndex;
     private Music music;
 
-    public CharacterSelectScreen(Game game) {
+    public CharacterSelectScreen(Main game) {
         this.game = game;
     }
 
@@ -42,7 +41,7 @@ public class CharacterSelectScreen implements Screen {
         batch = new SpriteBatch();
         shapes = new ShapeRenderer();
         font = new BitmapFont();
-        animationLoader = new AnimationConfigLoader();
+        animationCache = game.getAnimationCache();
 
         // Menu music.
         music = Gdx.audio.newMusic(Gdx.files.internal("gameMusic.mp3"));
@@ -51,13 +50,13 @@ public class CharacterSelectScreen implements Screen {
         music.play();
 
         // Load playable definitions and their animations.
-        CharacterRepository repository = new CharacterRepository();
-        characters = repository.load("characters/playables.json");
+        CharacterRepository repository = new CharacterRepository(game.getContent());
+        characters = repository.load(GameAssets.CHARACTERS);
         animations = new Array<>();
         cards = new Array<>();
 
         for (CharacterDefinition definition : characters) {
-            animations.add(animationLoader.load(definition.animations));
+            animations.add(animationCache.acquire(definition.animations));
         }
 
         buildLayout();
@@ -138,7 +137,9 @@ public class CharacterSelectScreen implements Screen {
 
     private void chooseSelected() {
         CharacterDefinition definition = characters.get(selectedIndex);
-        game.setScreen(new GameScreen(definition));
+        // The loading screen queues its animations before ours are released, so a shared
+        // atlas stays loaded across the switch.
+        game.setScreen(new LoadingScreen(game, definition));
         dispose();
     }
 
@@ -174,9 +175,10 @@ public class CharacterSelectScreen implements Screen {
             font.dispose();
         }
         if (animations != null) {
-            for (EntityAnimations entityAnimations : animations) {
-                entityAnimations.dispose();
+            for (CharacterDefinition definition : characters) {
+                animationCache.release(definition.animations);
             }
+            animations = null;
         }
         if (music != null) {
             music.stop();
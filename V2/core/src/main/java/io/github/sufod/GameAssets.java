@@ -0,0 +1,47 @@
+package io.github.sufod;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import io.github.sufod.boss.BossDefinition;
+import io.github.sufod.boss.BossDefinitionLoader;
+import io.github.sufod.content.ContentDatabase;
+import io.github.sufod.graphics.AnimationConfigAssetLoader;
+import io.github.sufod.graphics.CompiledAtlasLoader;
+import io.github.sufod.graphics.EntityAnimationConfig;
+import io.github.sufod.mobs.MobDefinition;
+import io.github.sufod.mobs.MobDefinitionLoader;
+
+// Asset paths used by a run, and the AssetManager setup that knows how to load them.
+public final class GameAssets {
+    // Chunk index of the background, built by the core:sliceMap task.
+    public static final String MAP = "map/chunks/map.json";
+    public static final String MUSIC = "gameMusic.mp3";
+    public static final String CHARACTERS = "characters/playables.json";
+    public static final String MOBS = "mobs/mobs.json";
+    public static final String BOSSES = "boss/boss.json";
+    // Every in-game sprite on shared pages, built by the core:packGameAtlas task.
+    public static final String GAME_ATLAS = "atlases/game.atlas";
+    // Hit spark frames in the combined atlas (assets/dammage).
+    public static final String HIT_FX_REGION = "dammage/fx_damage";
+    // Validated, binary copy of the JSON content and atlases, built by the core:compileContent task.
+    public static final String CONTENT = "content.bin";
+
+    private GameAssets() {
+    }
+
+    // AssetManager with the loaders for the game's own JSON formats registered.
+    // Animations come from the combined atlas when it has been packed, else from per-entity atlases.
+    // content may be null; files it does not cover are parsed from their text format.
+    public static AssetManager createManager(ContentDatabase content) {
+        FileHandleResolver resolver = new InternalFileHandleResolver();
+        AssetManager manager = new AssetManager(resolver);
+        String sharedAtlas = resolver.resolve(GAME_ATLAS).exists() ? GAME_ATLAS : null;
+        manager.setLoader(EntityAnimationConfig.class, new AnimationConfigAssetLoader(resolver, sharedAtlas, content));
+        manager.setLoader(MobDefinition[].class, new MobDefinitionLoader(resolver, content));
+        manager.setLoader(BossDefinition[].class, new BossDefinitionLoader(resolver, content));
+        manager.setLoader(TextureAtlas.class, new CompiledAtlasLoader(resolver, content));
+        return manager;
+    }
+}
@@ -1,215 +1,461 @@
 package io.github.sufod;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.core.PooledEngine;
+import com.badlogic.ashley.utils.ImmutableArray;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
-import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.viewport.ExtendViewport;
+import com.badlogic.gdx.utils.viewport.Viewport;
 import io.github.sufod.boss.BossDefinition;
-import io.github.sufod.boss.BossRepository;
 import io.github.sufod.characters.CharacterDefinition;
-import io.github.sufod.entities.Boss;
-import io.github.sufod.entities.Mob;
-import io.github.sufod.graphics.AnimationConfigLoader;
+import io.github.sufod.components.AnimationComponent;
+import io.github.sufod.components.BossComponent;
+import io.github.sufod.components.CombatComponent;
+import io.github.sufod.components.Mappers;
+import io.github.sufod.components.PositionComponent;
+import io.github.sufod.debug.PerfHud;
+import io.github.sufod.debug.PhaseMarkerSystem;
+import io.github.sufod.debug.PhaseTimer;
+import io.github.sufod.entities.Direction;
+import io.github.sufod.entities.MobStore;
+import io.github.sufod.graphics.AnimationCache;
+import io.github.sufod.graphics.ChunkedMap;
+import io.github.sufod.graphics.CombatFeedback;
 import io.github.sufod.graphics.EntityAnimations;
+import io.github.sufod.graphics.RenderQueue;
+import io.github.sufod.input.InputSource;
 import io.github.sufod.input.MovementInput;
 import io.github.sufod.mobs.MobDefinition;
-import io.github.sufod.mobs.MobRepository;
-import io.github.sufod.waves.WaveConfig;
-import io.github.sufod.waves.WaveManager;
+import io.github.sufod.replay.InputRecorder;
+import io.github.sufod.replay.Recording;
+import io.github.sufod.replay.ReplayInput;
+import io.github.sufod.sim.FixedTimestep;
+import io.github.sufod.sim.RenderSnapshot;
+import io.github.sufod.sim.Simulation;
+import io.github.sufod.sim.SimulationWorker;
+import io.github.sufod.systems.AnimationSystem;
+import io.github.sufod.systems.SystemPriority;
 public class GameScreen implements Screen {
+    private static final String TAG = "GameScreen";
+    // Simulation rate, independent of the display refresh rate.
+    private static final float TICKS_PER_SECOND = 60f;
+    // Beyond this many ticks in one frame the sim slows down instead of spiralling.
+    private static final int MAX_TICKS_PER_FRAME = 5;
+    // Minimum visible world area; the viewport extends it to the window's aspect ratio.
+    private static final float VIEW_WIDTH = 960f;
+    private static final float VIEW_HEIGHT = 540f;
+    // Entities this far outside the view still get animation frames, covering sprite
+    // size and the movement between the last tick and the camera update.
+    private static final float ANIMATION_CULL_MARGIN = 128f;
+    // Hits are logged at the target's position (its sprite's bottom-left); feedback shows at the sprite centre.
+    private static final float HIT_OFFSET = 32f;
+    private final Main game;
     private final CharacterDefinition definition;
     private SpriteBatch batch;
-    private io.github.sufod.entities.Character player;
+    // Sprites of the frame, drawn sorted by depth after the map.
+    private final RenderQueue renderQueue = new RenderQueue();
+    private OrthographicCamera camera;
+    private Viewport viewport;
+    // World area visible this frame, and the wider area that still resolves animations
+    // (read by the simulation thread; only written while it is idle).
+    private final Rectangle view = new Rectangle();
+    private final Rectangle animationBounds = new Rectangle();
+    // Screen-space projection for the HUD.
+    private final Matrix4 hudProjection = new Matrix4();
+    private PooledEngine engine;
+    private Entity player;
+    private ImmutableArray<Entity> bosses;
     private EntityAnimations playerAnimations;
-    private AnimationConfigLoader animationLoader;
+    private AssetManager assets;
+    private AnimationCache animationCache;
+    // AssetManager paths this screen holds a reference to, unloaded on dispose.
+    private final Array<String> assetPaths = new Array<>();
+    // Config paths acquired from the cache, released on dispose.
+    private final Array<String> animationPaths = new Array<>();
     private MovementInput movementInput;
-    private Texture background;
+    // Set when the run is recorded or replayed (see Main); at most one of them.
+    private InputRecorder recorder;
+    private ReplayInput replay;
+    // K was pressed; applied before the next tick so recordings see it on a tick boundary.
+    private boolean clearRequested;
+    private ChunkedMap map;
     private Music music;
-    private Array<Mob> activeMobs;
-    private WaveManager waveManager;
-    private int randomLoopStartIndex;
+    private MobStore mobStore;
+    private Simulation simulation;
+    // Runs the ticks while the previous snapshot is drawn.
+    private SimulationWorker worker;
     private ObjectMap<String, EntityAnimations> mobAnimations;
+    // Draw animation per mob type, indexed by MobStore type index.
+    private Array<Animation<TextureRegion>> mobTypeAnimations;
+    // Largest frame side per mob type, for culling.
+    private float[] mobTypeExtent;
     private ObjectMap<String, EntityAnimations> bossAnimations;
-    public GameScreen(CharacterDefinition definition) {
+    private FixedTimestep timestep;
+    // Simulation phases (on the simulation thread) and the draw phase (on the render thread).
+    private PhaseTimer phaseTimer;
+    private PhaseTimer drawTimer;
+    // F3 overlay.
+    private PerfHud perfHud;
+    // Sparks and damage numbers for the hits of each snapshot.
+    private CombatFeedback combatFeedback;
+    public GameScreen(Main game, CharacterDefinition definition) {
+        this.game = game;
         this.definition = definition;
     }
     @Override
     public void show() {
         batch = new SpriteBatch();
-        animationLoader = new AnimationConfigLoader();
+        camera = new OrthographicCamera();
+        viewport = new ExtendViewport(VIEW_WIDTH, VIEW_HEIGHT, camera);
+        viewport.update(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        hudProjection.setToOrtho2D(0f, 0f, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        assets = game.getAssetManager();
+        animationCache = game.getAnimationCache();
         movementInput = new MovementInput();
         Gdx.input.setInputProcessor(movementInput);
-        background = new Texture(Gdx.files.internal("map/map.png"));
-        music = Gdx.audio.newMusic(Gdx.files.internal("gameMusic.mp3"));
+        // Normally already loaded by the LoadingScreen; these only take a reference.
+        map = new ChunkedMap(assets, GameAssets.MAP);
+        music = acquireAsset(GameAssets.MUSIC, Music.class);
         music.setLooping(true);
         music.setVolume(0.5f);
         music.play();
-        player = new io.github.sufod.entities.Character(
-            new Vector2(200, 120),
-            definition.stats.maxHealth,
-            definition.stats.attackDamage,
-            definition.stats.speed,
-            definition.stats.attackSpeed,
-            definition.stats.maxHealth
-        );
-        playerAnimations = animationLoader.load(definition.animations);
-        player.setAnimations(playerAnimations);
-        player.setMovementInput(movementInput);
-        activeMobs = new Array<>();
-        MobRepository mobRepository = new MobRepository();
-        BossRepository bossRepository = new BossRepository();
-        Array<MobDefinition> mobList = mobRepository.load("mobs/mobs.json");
-        Array<BossDefinition> bossList = bossRepository.load("boss/boss.json");
-        ObjectMap<String, MobDefinition> mobDefs = new ObjectMap<>();
+        Array<MobDefinition> mobList = new Array<>(acquireAsset(GameAssets.MOBS, MobDefinition[].class));
+        Array<BossDefinition> bossList = new Array<>(acquireAsset(GameAssets.BOSSES, BossDefinition[].class));
+        // The world is the whole map; the camera shows part of it.
+        float worldWidth = map.getWidth();
+        float worldHeight = map.getHeight();
+        InputSource input = movementInput;
+        long seed = MathUtils.random.nextLong();
+        if (game.getReplayPath() != null) {
+            Recording recording = Recording.read(Recording.file(game.getReplayPath()));
+            if (!recording.characterId.equals(definition.id)
+                || recording.worldWidth != worldWidth || recording.worldHeight != worldHeight) {
+                Gdx.app.error(TAG, "Replay was recorded with " + recording.characterId + " on a "
+                    + recording.worldWidth + "x" + recording.worldHeight + " map; it will diverge");
+            }
+            replay = new ReplayInput(recording);
+            input = replay;
+            seed = recording.seed;
+        } else if (game.getRecordPath() != null) {
+            recorder = new InputRecorder(movementInput, new Recording(seed, definition.id, worldWidth, worldHeight));
+            input = recorder;
+        }
+        simulation = Simulation.createRun(worldWidth, worldHeight, definition.stats, input, mobList, bossList, seed);
+        mobStore = simulation.getMobs();
+        engine = simulation.getEngine();
+        player = simulation.getPlayer();
+        bosses = simulation.getBosses();
+
+        playerAnimations = acquireAnimations(definition.animations);
+        attachAnimations(player, playerAnimations);
         mobAnimations = new ObjectMap<>();
+        mobTypeAnimations = new Array<>();
+        mobTypeAnimations.setSize(mobStore.getTypeCount());
+        mobTypeExtent = new float[mobStore.getTypeCount()];
         for (MobDefinition def : mobList) {
-            mobDefs.put(def.id, def);
-            mobAnimations.put(def.id, animationLoader.load(def.animations));
+            EntityAnimations animations = acquireAnimations(def.animations);
+            mobAnimations.put(def.id, animations);
+            Animation<TextureRegion> animation = resolveMobAnimation(animations);
+            int type = mobStore.getTypeIndex(def.id);
+            mobTypeAnimations.set(type, animation);
+            mobTypeExtent[type] = maxFrameExtent(animation);
         }
-        ObjectMap<String, BossDefinition> bossDefs = new ObjectMap<>();
         bossAnimations = new ObjectMap<>();
         for (BossDefinition def : bossList) {
-            bossDefs.put(def.id, def);
-            bossAnimations.put(def.id, animationLoader.load(def.animations));
-        }
-        Array<Vector2> spawnPoints = buildRandomSpawnPoints(background, 24, 40f);
-        Array<WaveConfig> waves = new Array<>();
-        Array<String> piouIds = new Array<>();
-        piouIds.add("piou");
-        addMobWaves(waves, piouIds, 6, 4, false);
-        Array<String> piouBoss = new Array<>();
-        piouBoss.add("piouRoyal");
-        waves.add(new WaveConfig(true, 1, piouBoss, false));
-        Array<String> bouftouIds = new Array<>();
-        bouftouIds.add("bouftou");
-        addMobWaves(waves, bouftouIds, 6, 4, false);
-        Array<String> bouftouBoss = new Array<>();
-        bouftouBoss.add("bouftouRoyal");
-        waves.add(new WaveConfig(true, 1, bouftouBoss, false));
-        Array<String> randomMobIds = new Array<>();
-        randomMobIds.add("piou");
-        randomMobIds.add("bouftou");
-        Array<String> randomBossIds = new Array<>();
-        randomBossIds.add("piouRoyal");
-        randomBossIds.add("bouftouRoyal");
-        randomLoopStartIndex = waves.size;
-        addMobWaves(waves, randomMobIds, 6, 4, true);
-        waves.add(new WaveConfig(true, 1, randomBossIds, true));
-        waveManager = new WaveManager(
-            waves,
-            randomLoopStartIndex,
-            activeMobs,
-            mobDefs,
-            bossDefs,
-            mobAnimations,
-            bossAnimations,
-            spawnPoints
-        );
+            bossAnimations.put(def.id, acquireAnimations(def.animations));
+        }
+        // Bosses are spawned by the simulation; give them their animations as they arrive.
+        engine.addEntityListener(Family.all(BossComponent.class).get(), new EntityListener() {
+            @Override
+            public void entityAdded(Entity entity) {
+                attachAnimations(entity, bossAnimations.get(Mappers.boss.get(entity).id));
+            }
+
+            @Override
+            public void entityRemoved(Entity entity) {
+            }
+        });
+        engine.addSystem(new AnimationSystem(animationBounds));
+        // Markers between the simulation systems time the update, prune and wave phases.
+        phaseTimer = new PhaseTimer();
+        engine.addSystem(new PhaseMarkerSystem(Integer.MIN_VALUE, phaseTimer, -1));
+        engine.addSystem(new PhaseMarkerSystem(SystemPriority.PRUNE - 1, phaseTimer, PhaseTimer.UPDATE));
+        engine.addSystem(new PhaseMarkerSystem(SystemPriority.WAVES - 1, phaseTimer, PhaseTimer.PRUNE));
+        engine.addSystem(new PhaseMarkerSystem(Integer.MAX_VALUE, phaseTimer, PhaseTimer.WAVES));
+        Array<TextureRegion> sparkFrames = new Array<>();
+        if (Gdx.files.internal(GameAssets.GAME_ATLAS).exists()) {
+            TextureAtlas gameAtlas = acquireAsset(GameAssets.GAME_ATLAS, TextureAtlas.class);
+            sparkFrames.addAll(gameAtlas.findRegions(GameAssets.HIT_FX_REGION));
+        }
+        combatFeedback = new CombatFeedback(sparkFrames);
+        drawTimer = new PhaseTimer();
+        perfHud = new PerfHud(drawTimer);
+        timestep = new FixedTimestep(TICKS_PER_SECOND, MAX_TICKS_PER_FRAME);
+        worker = new SimulationWorker(new SimulationWorker.Steps() {
+            @Override
+            public boolean tick(float step) {
+                return runTick(step);
+            }
+
+            @Override
+            public void capture(RenderSnapshot snapshot) {
+                captureSnapshot(snapshot);
+            }
+        });
+        updateCamera(worker.await());
+        map.update(view.x, view.y, view.width, view.height);
+        map.finishLoading();
+    }
+
+    // Adds the render-only animation state and times attacks on the attack animation.
+    private void attachAnimations(Entity entity, EntityAnimations animations) {
+        AnimationComponent animation = engine.createComponent(AnimationComponent.class);
+        animation.animations = animations;
+        entity.add(animation);
+        CombatComponent combat = Mappers.combat.get(entity);
+        if (combat != null && animations != null) {
+            combat.attackDuration = animations.getAttackDuration();
+        }
     }
     @Override
     public void render(float delta) {
         Gdx.gl.glClearColor(0.08f, 0.08f, 0.08f, 1f);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        perfHud.frameStarted(delta);
+        // Ticks submitted last frame are done: the simulation is idle until submit() below,
+        // so input and the cull bounds can be updated for the next batch.
+        RenderSnapshot snapshot = worker.await();
         movementInput.update();
-        player.update(delta);
-        updateEnemies(delta);
-        if (Gdx.input.isKeyJustPressed(Input.Keys.K)) {
-            activeMobs.clear();
-            if (waveManager != null) {
-                waveManager.clearBoss();
-            }
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F3)) {
+            perfHud.toggle();
         }
-        pruneDeadEnemies();
-        if (waveManager != null) {
-            waveManager.update();
+        if (Gdx.input.isKeyJustPressed(Input.Keys.K)) {
+            clearRequested = true;
         }
-        TextureRegion frame = player.getCurrentFrame();
+        updateCamera(snapshot);
+        combatFeedback.spawn(snapshot.hits, HIT_OFFSET, HIT_OFFSET);
+        combatFeedback.update(delta);
+        // The simulation runs in fixed steps; drawing blends the last two steps by alpha.
+        // This frame's ticks run on the worker and are drawn next frame.
+        int ticks = timestep.advance(delta);
+        worker.submit(ticks, timestep.getStep(), timestep.getAlpha());
+        drawTimer.start();
+        map.update(view.x, view.y, view.width, view.height);
+        batch.setProjectionMatrix(camera.combined);
         batch.begin();
-        batch.draw(background, 0, 0);
-        drawEnemies();
-        if (frame != null) {
-            batch.draw(frame, player.getPosition().x, player.getPosition().y);
-        }
+        map.draw(batch, view.x, view.y, view.width, view.height);
+        drawSprites(snapshot);
+        combatFeedback.draw(batch);
+        batch.flush();
+        drawTimer.lap(PhaseTimer.DRAW);
+        batch.setProjectionMatrix(hudProjection);
+        perfHud.draw(batch, delta, snapshot);
         batch.end();
+        drawTimer.endFrame();
     }
 
-    private void pruneDeadEnemies() {
-        for (int i = activeMobs.size - 1; i >= 0; i--) {
-            if (activeMobs.get(i).isDead()) {
-                activeMobs.removeIndex(i);
+    // One simulation tick with the record/replay bookkeeping. Returns false once a replay has ended.
+    // Runs on the simulation thread.
+    private boolean runTick(float step) {
+        if (replay != null) {
+            if (!replay.beginTick()) {
+                return false;
+            }
+            if (replay.isClearEnemies()) {
+                simulation.clearEnemies();
+            }
+            simulation.update(step);
+            if (!replay.endTick(simulation.checksum()) && replay.getMismatchCount() == 1) {
+                Gdx.app.error(TAG, "Replay diverged at tick " + replay.getFirstMismatchTick());
             }
+            if (replay.isFinished()) {
+                Gdx.app.log(TAG, "Replay finished: " + replay.getTicks() + " ticks, "
+                    + replay.getMismatchCount() + " checksum mismatches");
+            }
+            return true;
+        }
+        boolean clear = clearRequested;
+        clearRequested = false;
+        if (clear) {
+            simulation.clearEnemies();
+        }
+        if (recorder != null) {
+            recorder.beginTick(clear);
+        }
+        simulation.update(step);
+        if (recorder != null) {
+            recorder.endTick(simulation.checksum());
         }
+        return true;
+    }
 
-        if (waveManager != null) {
-            Boss boss = waveManager.getActiveBoss();
-            if (boss != null && boss.isDead()) {
-                waveManager.clearBoss();
-            }
+    // Centres the camera on the player's drawn position, kept inside the map.
+    private void updateCamera(RenderSnapshot snapshot) {
+        int sprite = snapshot.player;
+        if (sprite == -1) {
+            return;
         }
+        float x = snapshot.drawX(sprite);
+        float y = snapshot.drawY(sprite);
+        TextureRegion frame = snapshot.frames[sprite];
+        if (frame != null) {
+            x += frame.getRegionWidth() * 0.5f;
+            y += frame.getRegionHeight() * 0.5f;
+        }
+        float halfWidth = camera.viewportWidth * camera.zoom * 0.5f;
+        float halfHeight = camera.viewportHeight * camera.zoom * 0.5f;
+        camera.position.x = clampToMap(x, halfWidth, map.getWidth());
+        camera.position.y = clampToMap(y, halfHeight, map.getHeight());
+        camera.update();
+        view.set(camera.position.x - halfWidth, camera.position.y - halfHeight, halfWidth * 2f, halfHeight * 2f);
+        animationBounds.set(
+            view.x - ANIMATION_CULL_MARGIN,
+            view.y - ANIMATION_CULL_MARGIN,
+            view.width + ANIMATION_CULL_MARGIN * 2f,
+            view.height + ANIMATION_CULL_MARGIN * 2f
+        );
     }
 
-    private void updateEnemies(float delta) {
-        for (int i = 0; i < activeMobs.size; i++) {
-            activeMobs.get(i).update(delta);
+    // Keeps a view of half-size half inside [0, size], or centres it if the map is smaller.
+    private static float clampToMap(float center, float half, float size) {
+        if (size <= half * 2f) {
+            return size * 0.5f;
         }
+        return MathUtils.clamp(center, half, size - half);
+    }
 
-        if (waveManager != null) {
-            Boss boss = waveManager.getActiveBoss();
-            if (boss != null) {
-                boss.update(delta);
+    // Runs on the simulation thread after each batch: the player, the mobs whose frame can reach
+    // the animation bounds (with their frame resolved here) and the bosses that have a frame.
+    private void captureSnapshot(RenderSnapshot snapshot) {
+        snapshot.player = captureEntity(snapshot, player);
+
+        float[] xs = mobStore.x;
+        float[] ys = mobStore.y;
+        float[] prevXs = mobStore.prevX;
+        float[] prevYs = mobStore.prevY;
+        float[] stateTimes = mobStore.stateTime;
+        short[] types = mobStore.typeIndex;
+        float[] extents = mobTypeExtent;
+        float left = animationBounds.x;
+        float bottom = animationBounds.y;
+        float right = animationBounds.x + animationBounds.width;
+        float top = animationBounds.y + animationBounds.height;
+        for (int i = 0, n = mobStore.size(); i < n; i++) {
+            int type = types[i];
+            Animation<TextureRegion> animation = mobTypeAnimations.get(type);
+            if (animation == null) {
+                continue;
+            }
+            float x = xs[i];
+            float y = ys[i];
+            float extent = extents[type];
+            if (x > right || y > top || x + extent < left || y + extent < bottom) {
+                continue;
             }
+            snapshot.add(animation.getKeyFrame(stateTimes[i], true), x, y, prevXs[i], prevYs[i]);
         }
-    }
 
-    private void drawEnemies() {
-        for (int i = 0; i < activeMobs.size; i++) {
-            Mob mob = activeMobs.get(i);
-            TextureRegion frame = mob.getCurrentFrame();
-            if (frame != null) {
-                Vector2 pos = mob.getPosition();
-                batch.draw(frame, pos.x, pos.y);
+        for (int i = 0; i < bosses.size(); i++) {
+            Entity boss = bosses.get(i);
+            AnimationComponent animation = Mappers.animation.get(boss);
+            if (animation != null && animation.frame != null) {
+                captureEntity(snapshot, boss);
             }
         }
 
-        if (waveManager != null) {
-            Boss boss = waveManager.getActiveBoss();
-            if (boss != null) {
-                TextureRegion frame = boss.getCurrentFrame();
-                if (frame != null) {
-                    Vector2 pos = boss.getPosition();
-                    batch.draw(frame, pos.x, pos.y);
-                }
+        simulation.getHits().drainTo(snapshot.hits);
+        snapshot.entityCount = engine.getEntities().size();
+        snapshot.bossCount = bosses.size();
+        snapshot.mobCount = mobStore.size();
+        snapshot.mobCapacity = mobStore.capacity();
+        phaseTimer.endFrame();
+        for (int phase = 0; phase < PhaseTimer.COUNT; phase++) {
+            snapshot.phaseNanos[phase] = phaseTimer.getNanos(phase);
+        }
+    }
+
+    private int captureEntity(RenderSnapshot snapshot, Entity entity) {
+        AnimationComponent animation = Mappers.animation.get(entity);
+        PositionComponent position = Mappers.position.get(entity);
+        return snapshot.add(animation != null ? animation.frame : null,
+            position.position.x, position.position.y, position.previous.x, position.previous.y);
+    }
+
+    // Queues the snapshot's sprites that touch the view and draws them depth-sorted.
+    private void drawSprites(RenderSnapshot snapshot) {
+        TextureRegion[] frames = snapshot.frames;
+        float left = view.x;
+        float bottom = view.y;
+        float right = view.x + view.width;
+        float top = view.y + view.height;
+        for (int i = 0, n = snapshot.size(); i < n; i++) {
+            TextureRegion frame = frames[i];
+            if (frame == null) {
+                continue;
             }
+            float x = snapshot.drawX(i);
+            float y = snapshot.drawY(i);
+            if (x > right || y > top || x + frame.getRegionWidth() < left || y + frame.getRegionHeight() < bottom) {
+                continue;
+            }
+            renderQueue.add(RenderQueue.LAYER_ENTITIES, frame, x, y);
         }
+        renderQueue.draw(batch);
+    }
+
+    private <T> T acquireAsset(String path, Class<T> type) {
+        assetPaths.add(path);
+        assets.load(path, type);
+        return assets.finishLoadingAsset(path);
     }
-    private Array<Vector2> buildRandomSpawnPoints(Texture mapTexture, int count, float margin) {
-        Array<Vector2> points = new Array<>();
-        float maxX = Math.max(margin, Gdx.graphics.getWidth() - margin);
-        float maxY = Math.max(margin, Gdx.graphics.getHeight() - margin);
-        for (int i = 0; i < count; i++) {
-            float x = MathUtils.random(margin, maxX);
-            float y = MathUtils.random(margin, maxY);
-            points.add(new Vector2(x, y));
+
+    private EntityAnimations acquireAnimations(String configPath) {
+        animationPaths.add(configPath);
+        return animationCache.acquire(configPath);
+    }
+
+    private static float maxFrameExtent(Animation<TextureRegion> animation) {
+        float extent = 0f;
+        if (animation != null) {
+            for (TextureRegion frame : animation.getKeyFrames()) {
+                extent = Math.max(extent, Math.max(frame.getRegionWidth(), frame.getRegionHeight()));
+            }
         }
-        return points;
+        return extent;
     }
-    private void addMobWaves(Array<WaveConfig> waves, Array<String> ids, int count, int repeats, boolean randomChoice) {
-        for (int i = 0; i < repeats; i++) {
-            waves.add(new WaveConfig(false, count, ids, randomChoice));
+
+    // Mobs face a fixed direction: prefer idle, fall back to walk.
+    private Animation<TextureRegion> resolveMobAnimation(EntityAnimations animations) {
+        if (animations == null) {
+            return null;
         }
+        Animation<TextureRegion> idle = animations.getIdle(Direction.DOWN_RIGHT);
+        return idle != null ? idle : animations.getWalk(Direction.DOWN_RIGHT);
     }
+
     @Override
     public void resize(int width, int height) {
         if (width <= 0 || height <= 0) {
             return;
         }
+        viewport.update(width, height);
+        hudProjection.setToOrtho2D(0f, 0f, width, height);
     }
     @Override
     public void pause() {
@@ -222,28 +468,39 @@ public class GameScreen implements Screen {
     }
     @Override
     public void dispose() {
+        if (worker != null) {
+            worker.dispose();
+        }
+        if (recorder != null) {
+            recorder.getRecording().write(Recording.file(game.getRecordPath()));
+            Gdx.app.log(TAG, "Recorded " + recorder.getRecording().size() + " ticks to " + game.getRecordPath());
+            recorder = null;
+        }
+        if (simulation != null) {
+            simulation.dispose();
+        }
         if (batch != null) {
             batch.dispose();
         }
-        if (playerAnimations != null) {
-            playerAnimations.dispose();
+        if (perfHud != null) {
+            perfHud.dispose();
         }
-        if (mobAnimations != null) {
-            for (ObjectMap.Entry<String, EntityAnimations> entry : mobAnimations.entries()) {
-                entry.value.dispose();
-            }
+        if (combatFeedback != null) {
+            combatFeedback.dispose();
         }
-        if (bossAnimations != null) {
-            for (ObjectMap.Entry<String, EntityAnimations> entry : bossAnimations.entries()) {
-                entry.value.dispose();
-            }
-        }
-        if (background != null) {
-            background.dispose();
+        for (String path : animationPaths) {
+            animationCache.release(path);
         }
+        animationPaths.clear();
         if (music != null) {
             music.stop();
-            music.dispose();
         }
+        if (map != null) {
+            map.dispose();
+        }
+        for (String path : assetPaths) {
+            assets.unload(path);
+        }
+        assetPaths.clear();
     }
 }
@@ -0,0 +1,154 @@
+package io.github.sufod;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.Array;
+import io.github.sufod.boss.BossDefinition;
+import io.github.sufod.characters.CharacterDefinition;
+import io.github.sufod.graphics.AnimationCache;
+import io.github.sufod.graphics.ChunkedMap;
+import io.github.sufod.mobs.MobDefinition;
+
+// Loads everything a run needs through the AssetManager while drawing a progress bar.
+// Decoding and parsing happen on the AssetManager's thread; each frame only gives the
+// GL uploads a small time budget, so the window stays responsive.
+// The mob and boss animations are only known once their definitions are parsed,
+// so they are queued in a second pass.
+public class LoadingScreen implements Screen {
+    // Time given to AssetManager.update each frame, in milliseconds.
+    private static final int UPDATE_BUDGET_MS = 12;
+
+    private final Main game;
+    private final CharacterDefinition definition;
+    private AssetManager assets;
+    private AnimationCache animationCache;
+    private SpriteBatch batch;
+    private ShapeRenderer shapes;
+    private BitmapFont font;
+    // Holds the chunks visible at the start of the run until the game screen takes them.
+    private ChunkedMap map;
+    // Config paths queued on the cache, released once the game screen holds them.
+    private final Array<String> animationPaths = new Array<>();
+    private boolean definitionsLoaded;
+    private boolean finished;
+
+    public LoadingScreen(Main game, CharacterDefinition definition) {
+        this.game = game;
+        this.definition = definition;
+    }
+
+    @Override
+    public void show() {
+        assets = game.getAssetManager();
+        animationCache = game.getAnimationCache();
+        batch = new SpriteBatch();
+        shapes = new ShapeRenderer();
+        font = new BitmapFont();
+
+        map = new ChunkedMap(assets, GameAssets.MAP);
+        map.update(0f, 0f, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        assets.load(GameAssets.MUSIC, Music.class);
+        assets.load(GameAssets.MOBS, MobDefinition[].class);
+        assets.load(GameAssets.BOSSES, BossDefinition[].class);
+        queueAnimations(definition.animations);
+    }
+
+    private void queueAnimations(String configPath) {
+        animationPaths.add(configPath);
+        animationCache.queue(configPath);
+    }
+
+    @Override
+    public void render(float delta) {
+        if (finished) {
+            return;
+        }
+        boolean done = assets.update(UPDATE_BUDGET_MS);
+        if (!definitionsLoaded && assets.isLoaded(GameAssets.MOBS) && assets.isLoaded(GameAssets.BOSSES)) {
+            definitionsLoaded = true;
+            for (MobDefinition def : assets.get(GameAssets.MOBS, MobDefinition[].class)) {
+                queueAnimations(def.animations);
+            }
+            for (BossDefinition def : assets.get(GameAssets.BOSSES, BossDefinition[].class)) {
+                queueAnimations(def.animations);
+            }
+            done = false;
+        }
+        if (done && definitionsLoaded) {
+            finished = true;
+            game.setScreen(new GameScreen(game, definition));
+            dispose();
+            return;
+        }
+
+        float progress = assets.getProgress();
+        float width = Gdx.graphics.getWidth();
+        float height = Gdx.graphics.getHeight();
+        float barWidth = width * 0.5f;
+        float barHeight = 16f;
+        float barX = (width - barWidth) * 0.5f;
+        float barY = height * 0.5f - barHeight * 0.5f;
+
+        Gdx.gl.glClearColor(0.06f, 0.06f, 0.06f, 1f);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+        shapes.begin(ShapeRenderer.ShapeType.Filled);
+        shapes.setColor(0.2f, 0.2f, 0.2f, 1f);
+        shapes.rect(barX, barY, barWidth, barHeight);
+        shapes.setColor(0.9f, 0.8f, 0.2f, 1f);
+        shapes.rect(barX, barY, barWidth * progress, barHeight);
+        shapes.end();
+
+        batch.begin();
+        font.setColor(0.8f, 0.8f, 0.8f, 1f);
+        font.draw(batch, "Loading " + (int) (progress * 100f) + "%", barX, barY - 12f);
+        batch.end();
+    }
+
+    @Override
+    public void resize(int width, int height) {
+    }
+
+    @Override
+    public void pause() {
+    }
+
+    @Override
+    public void resume() {
+    }
+
+    @Override
+    public void hide() {
+    }
+
+    // Drops this screen's references; the game screen takes its own before this runs.
+    @Override
+    public void dispose() {
+        if (assets != null) {
+            for (String path : animationPaths) {
+                animationCache.release(path);
+            }
+            animationPaths.clear();
+            map.dispose();
+            assets.unload(GameAssets.MUSIC);
+            assets.unload(GameAssets.MOBS);
+            assets.unload(GameAssets.BOSSES);
+            assets = null;
+        }
+        if (batch != null) {
+            batch.dispose();
+        }
+        if (shapes != null) {
+            shapes.dispose();
+        }
+        if (font != null) {
+            font.dispose();
+        }
+    }
+}
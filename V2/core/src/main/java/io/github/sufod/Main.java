@@ -1,12 +1,73 @@
 package io.github.sufod;
 
 import com.badlogic.gdx.Game;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import io.github.sufod.content.ContentDatabase;
+import io.github.sufod.graphics.AnimationCache;
 
 /** {@link com.badlogic.gdx.ApplicationListener} implementation shared by all platforms. */
 public class Main extends Game {
+    // Assets, animations and atlases shared by every screen.
+    private AssetManager assetManager;
+    private AnimationCache animationCache;
+    // Compiled content, or null when content.bin has not been built (the JSON is read instead).
+    private ContentDatabase content;
+    // Run recording / replay files (see io.github.sufod.replay), or null.
+    private final String recordPath;
+    private final String replayPath;
+
+    public Main() {
+        this(null, null);
+    }
+
+    public Main(String recordPath, String replayPath) {
+        this.recordPath = recordPath;
+        this.replayPath = replayPath;
+    }
+
     @Override
     public void create() {
+        content = ContentDatabase.openIfPresent(Gdx.files.internal(GameAssets.CONTENT));
+        assetManager = GameAssets.createManager(content);
+        animationCache = new AnimationCache(assetManager);
         // Start the character selection screen.
         setScreen(new CharacterSelectScreen(this));
     }
+
+    public AssetManager getAssetManager() {
+        return assetManager;
+    }
+
+    public AnimationCache getAnimationCache() {
+        return animationCache;
+    }
+
+    public ContentDatabase getContent() {
+        return content;
+    }
+
+    public String getRecordPath() {
+        return recordPath;
+    }
+
+    public String getReplayPath() {
+        return replayPath;
+    }
+
+    @Override
+    public void dispose() {
+        super.dispose();
+        // Game only hides the last screen; dispose it too so it releases its assets
+        // (and the game screen writes its recording) before the manager goes away.
+        if (getScreen() != null) {
+            getScreen().dispose();
+        }
+        if (animationCache != null) {
+            animationCache.dispose();
+        }
+        if (assetManager != null) {
+            assetManager.dispose();
+        }
+    }
 }
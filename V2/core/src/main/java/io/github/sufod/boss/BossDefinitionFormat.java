@@ -0,0 +1,43 @@
+package io.github.sufod.boss;
+
+import io.github.sufod.content.ContentFormat;
+import io.github.sufod.content.ContentInput;
+import io.github.sufod.content.ContentOutput;
+
+// Compiled form of a BossDefinition (see ContentDatabase).
+public class BossDefinitionFormat implements ContentFormat<BossDefinition> {
+    public static final BossDefinitionFormat INSTANCE = new BossDefinitionFormat();
+    public static final int KIND = 3;
+
+    @Override
+    public int kind() {
+        return KIND;
+    }
+
+    @Override
+    public void write(ContentOutput out, BossDefinition value) {
+        out.writeString(value.id);
+        out.writeString(value.name);
+        out.writeString(value.animations);
+        out.writeInt(value.stats.maxHealth);
+        out.writeInt(value.stats.attackDamage);
+        out.writeFloat(value.stats.speed);
+        out.writeFloat(value.stats.attackSpeed);
+        out.writeFloat(value.stats.attackRange);
+    }
+
+    @Override
+    public BossDefinition read(ContentInput in) {
+        BossDefinition value = new BossDefinition();
+        value.id = in.readString();
+        value.name = in.readString();
+        value.animations = in.readString();
+        value.stats = new BossStats();
+        value.stats.maxHealth = in.readInt();
+        value.stats.attackDamage = in.readInt();
+        value.stats.speed = in.readFloat();
+        value.stats.attackSpeed = in.readFloat();
+        value.stats.attackRange = in.readFloat();
+        return value;
+    }
+}
@@ -0,0 +1,52 @@
+package io.github.sufod.boss;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetLoaderParameters;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.AsynchronousAssetLoader;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import io.github.sufod.content.ContentDatabase;
+
+// AssetManager loader for a boss definition list (same format as BossRepository).
+// The JSON, or the compiled records when the content database has them, is read on
+// the AssetManager's loading thread.
+public class BossDefinitionLoader extends AsynchronousAssetLoader<BossDefinition[], BossDefinitionLoader.Parameters> {
+    private final BossRepository repository;
+    private BossDefinition[] definitions;
+
+    public BossDefinitionLoader(FileHandleResolver resolver) {
+        this(resolver, null);
+    }
+
+    public BossDefinitionLoader(FileHandleResolver resolver, ContentDatabase content) {
+        super(resolver);
+        this.repository = new BossRepository(content);
+    }
+
+    @Override
+    public void loadAsync(AssetManager manager, String fileName, FileHandle file, Parameters parameter) {
+        Array<BossDefinition> loaded = repository.load(file);
+        definitions = new BossDefinition[loaded.size];
+        for (int i = 0; i < loaded.size; i++) {
+            definitions[i] = loaded.get(i);
+        }
+    }
+
+    @Override
+    public BossDefinition[] loadSync(AssetManager manager, String fileName, FileHandle file, Parameters parameter) {
+        BossDefinition[] result = definitions;
+        definitions = null;
+        return result;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Array<AssetDescriptor> getDependencies(String fileName, FileHandle file, Parameters parameter) {
+        return null;
+    }
+
+    public static class Parameters extends AssetLoaderParameters<BossDefinition[]> {
+    }
+}
@@ -1,17 +1,39 @@
 package io.github.sufod.boss;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Json;
+import io.github.sufod.content.ContentDatabase;
 
 public class BossRepository {
     private final Json json = new Json();
+    // Compiled content, or null to always parse the JSON.
+    private final ContentDatabase content;
+
+    public BossRepository() {
+        this(null);
+    }
+
+    public BossRepository(ContentDatabase content) {
+        this.content = content;
+    }
 
     public Array<BossDefinition> load(String path) {
+        return load(Gdx.files.internal(path));
+    }
+
+    // Reads the compiled records when the database has this file, else parses the JSON.
+    public Array<BossDefinition> load(FileHandle file) {
+        if (content != null && content.contains(file.path(), BossDefinitionFormat.INSTANCE)) {
+            Array<BossDefinition> definitions = new Array<>();
+            content.readAll(file.path(), BossDefinitionFormat.INSTANCE, definitions);
+            return definitions;
+        }
         return json.fromJson(
             Array.class,
             BossDefinition.class,
-            Gdx.files.internal(path)
+            file
         );
     }
 }
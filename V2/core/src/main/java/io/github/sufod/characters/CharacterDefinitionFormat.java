@@ -0,0 +1,43 @@
+package io.github.sufod.characters;
+
+import io.github.sufod.content.ContentFormat;
+import io.github.sufod.content.ContentInput;
+import io.github.sufod.content.ContentOutput;
+
+// Compiled form of a CharacterDefinition (see ContentDatabase).
+public class CharacterDefinitionFormat implements ContentFormat<CharacterDefinition> {
+    public static final CharacterDefinitionFormat INSTANCE = new CharacterDefinitionFormat();
+    public static final int KIND = 1;
+
+    @Override
+    public int kind() {
+        return KIND;
+    }
+
+    @Override
+    public void write(ContentOutput out, CharacterDefinition value) {
+        out.writeString(value.id);
+        out.writeString(value.name);
+        out.writeString(value.animations);
+        out.writeInt(value.stats.maxHealth);
+        out.writeInt(value.stats.attackDamage);
+        out.writeFloat(value.stats.speed);
+        out.writeFloat(value.stats.attackSpeed);
+        out.writeFloat(value.stats.attackRange);
+    }
+
+    @Override
+    public CharacterDefinition read(ContentInput in) {
+        CharacterDefinition value = new CharacterDefinition();
+        value.id = in.readString();
+        value.name = in.readString();
+        value.animations = in.readString();
+        value.stats = new CharacterStats();
+        value.stats.maxHealth = in.readInt();
+        value.stats.attackDamage = in.readInt();
+        value.stats.speed = in.readFloat();
+        value.stats.attackSpeed = in.readFloat();
+        value.stats.attackRange = in.readFloat();
+        return value;
+    }
+}
@@ -1,14 +1,36 @@
 package io.github.sufod.characters;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Json;
+import io.github.sufod.content.ContentDatabase;
 
 public class CharacterRepository {
     private final Json json = new Json();
+    // Compiled content, or null to always parse the JSON.
+    private final ContentDatabase content;
+
+    public CharacterRepository() {
+        this(null);
+    }
+
+    public CharacterRepository(ContentDatabase content) {
+        this.content = content;
+    }
 
     // Loads playable character definitions from a JSON file.
     public Array<CharacterDefinition> load(String path) {
-        return json.fromJson(Array.class, CharacterDefinition.class, Gdx.files.internal(path));
+        return load(Gdx.files.internal(path));
+    }
+
+    // Reads the compiled records when the database has this file, else parses the JSON.
+    public Array<CharacterDefinition> load(FileHandle file) {
+        if (content != null && content.contains(file.path(), CharacterDefinitionFormat.INSTANCE)) {
+            Array<CharacterDefinition> definitions = new Array<>();
+            content.readAll(file.path(), CharacterDefinitionFormat.INSTANCE, definitions);
+            return definitions;
+        }
+        return json.fromJson(Array.class, CharacterDefinition.class, file);
     }
 }
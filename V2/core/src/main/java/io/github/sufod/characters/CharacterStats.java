@@ -6,4 +6,6 @@ public class CharacterStats {
     public int attackDamage;
     public float speed;
     public float attackSpeed;
+    // Reach of the attack arc; 0 uses CombatSystem's default.
+    public float attackRange;
 }
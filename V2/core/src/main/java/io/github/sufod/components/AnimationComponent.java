@@ -0,0 +1,22 @@
+package io.github.sufod.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Pool;
+import io.github.sufod.graphics.EntityAnimations;
+
+// Render-only state, attached by the screen; the simulation never reads it.
+public class AnimationComponent implements Component, Pool.Poolable {
+    // Animation set injected per entity.
+    public EntityAnimations animations;
+    public float stateTime;
+    // Frame resolved by AnimationSystem for this tick (null if none).
+    public TextureRegion frame;
+
+    @Override
+    public void reset() {
+        animations = null;
+        stateTime = 0f;
+        frame = null;
+    }
+}
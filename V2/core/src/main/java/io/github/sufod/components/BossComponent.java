@@ -0,0 +1,14 @@
+package io.github.sufod.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+public class BossComponent implements Component, Pool.Poolable {
+    // Boss definition id (e.g. "piouRoyal").
+    public String id;
+
+    @Override
+    public void reset() {
+        id = null;
+    }
+}
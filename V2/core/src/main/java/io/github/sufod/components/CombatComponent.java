@@ -0,0 +1,32 @@
+package io.github.sufod.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+public class CombatComponent implements Component, Pool.Poolable {
+    public int attackDamage;
+    // Attacks per second.
+    public float attackSpeed;
+    public float attackRange;
+    public float timeSinceLastAttack;
+    // Whether an attack is in progress, and for how long it has been.
+    public boolean attacking;
+    public float attackTime;
+    // Length of one attack in seconds (the screen sets it from the attack animation).
+    public float attackDuration;
+
+    public boolean canAttack() {
+        return timeSinceLastAttack >= (1f / attackSpeed);
+    }
+
+    @Override
+    public void reset() {
+        attackDamage = 0;
+        attackSpeed = 0f;
+        attackRange = 0f;
+        timeSinceLastAttack = 0f;
+        attacking = false;
+        attackTime = 0f;
+        attackDuration = 0f;
+    }
+}
@@ -0,0 +1,18 @@
+package io.github.sufod.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+import io.github.sufod.entities.Direction;
+
+public class FacingComponent implements Component, Pool.Poolable {
+    // Facing; null until the entity first moves.
+    public Direction direction;
+    // Last horizontal input: -1 = left, 1 = right.
+    public int lastHorizontalSign = 1;
+
+    @Override
+    public void reset() {
+        direction = null;
+        lastHorizontalSign = 1;
+    }
+}
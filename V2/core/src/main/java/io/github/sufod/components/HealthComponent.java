@@ -0,0 +1,26 @@
+package io.github.sufod.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+public class HealthComponent implements Component, Pool.Poolable {
+    public int health;
+    public int maxHealth;
+
+    public void takeDamage(int amount) {
+        health -= amount;
+        if (health < 0) {
+            health = 0;
+        }
+    }
+
+    public boolean isDead() {
+        return health <= 0;
+    }
+
+    @Override
+    public void reset() {
+        health = 0;
+        maxHealth = 0;
+    }
+}
@@ -0,0 +1,18 @@
+package io.github.sufod.components;
+
+import com.badlogic.ashley.core.ComponentMapper;
+
+// Shared component mappers (O(1) component access by type index).
+public final class Mappers {
+    public static final ComponentMapper<PositionComponent> position = ComponentMapper.getFor(PositionComponent.class);
+    public static final ComponentMapper<VelocityComponent> velocity = ComponentMapper.getFor(VelocityComponent.class);
+    public static final ComponentMapper<HealthComponent> health = ComponentMapper.getFor(HealthComponent.class);
+    public static final ComponentMapper<CombatComponent> combat = ComponentMapper.getFor(CombatComponent.class);
+    public static final ComponentMapper<FacingComponent> facing = ComponentMapper.getFor(FacingComponent.class);
+    public static final ComponentMapper<AnimationComponent> animation = ComponentMapper.getFor(AnimationComponent.class);
+    public static final ComponentMapper<PlayerComponent> player = ComponentMapper.getFor(PlayerComponent.class);
+    public static final ComponentMapper<BossComponent> boss = ComponentMapper.getFor(BossComponent.class);
+
+    private Mappers() {
+    }
+}
@@ -0,0 +1,15 @@
+package io.github.sufod.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+import io.github.sufod.input.InputSource;
+
+public class PlayerComponent implements Component, Pool.Poolable {
+    // Movement input injected by the screen.
+    public InputSource input;
+
+    @Override
+    public void reset() {
+        input = null;
+    }
+}
@@ -0,0 +1,18 @@
+package io.github.sufod.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
+
+public class PositionComponent implements Component, Pool.Poolable {
+    // Bottom-left corner of the sprite, in world units.
+    public final Vector2 position = new Vector2();
+    // Position at the start of the current tick, for render interpolation.
+    public final Vector2 previous = new Vector2();
+
+    @Override
+    public void reset() {
+        position.setZero();
+        previous.setZero();
+    }
+}
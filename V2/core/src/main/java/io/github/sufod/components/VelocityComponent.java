@@ -0,0 +1,22 @@
+package io.github.sufod.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
+
+public class VelocityComponent implements Component, Pool.Poolable {
+    // Normalized movement direction (zero when idle).
+    public final Vector2 velocity = new Vector2();
+    // Movement speed in world units per second.
+    public float speed;
+
+    public boolean isMoving() {
+        return velocity.len2() > 0;
+    }
+
+    @Override
+    public void reset() {
+        velocity.setZero();
+        speed = 0f;
+    }
+}
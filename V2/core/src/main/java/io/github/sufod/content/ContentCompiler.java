@@ -0,0 +1,283 @@
+package io.github.sufod.content;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.ObjectSet;
+import io.github.sufod.GameAssets;
+import io.github.sufod.boss.BossDefinition;
+import io.github.sufod.boss.BossDefinitionFormat;
+import io.github.sufod.characters.CharacterDefinition;
+import io.github.sufod.characters.CharacterDefinitionFormat;
+import io.github.sufod.graphics.AnimationConfigFormat;
+import io.github.sufod.graphics.AnimationSpec;
+import io.github.sufod.graphics.AtlasFormat;
+import io.github.sufod.graphics.DirectionalAnimations;
+import io.github.sufod.graphics.EntityAnimationConfig;
+import io.github.sufod.mobs.MobDefinition;
+import io.github.sufod.mobs.MobDefinitionFormat;
+import java.io.File;
+
+// Build-time step behind the core:compileContent task. Reads the JSON content (playables,
+// mobs, bosses, their animation configs) and the atlases those configs use, checks that
+// everything they reference exists, and writes the result as one ContentDatabase blob.
+// Every problem is collected and reported together; nothing is written if there is one.
+// Runs without a libGDX application: files are opened directly from the assets directory.
+public class ContentCompiler {
+    private final File assetsDir;
+    private final Json json = new Json();
+    private final ContentWriter writer = new ContentWriter();
+    private final Array<String> errors = new Array<>();
+    private final ObjectSet<String> compiledAnimations = new ObjectSet<>();
+    private final ObjectMap<String, TextureAtlasData> atlases = new ObjectMap<>();
+    // Combined atlas, or null when it has not been packed.
+    private TextureAtlasData sharedAtlas;
+
+    public ContentCompiler(File assetsDir) {
+        this.assetsDir = assetsDir;
+    }
+
+    // Usage: ContentCompiler <assets directory> <output file>
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.err.println("Usage: ContentCompiler <assets directory> <output file>");
+            System.exit(1);
+        }
+        byte[] bytes = new ContentCompiler(new File(args[0])).compile();
+        new FileHandle(new File(args[1])).writeBytes(bytes, false);
+        System.out.println("Wrote " + bytes.length + " bytes to " + args[1]);
+    }
+
+    public byte[] compile() {
+        if (file(GameAssets.GAME_ATLAS).exists()) {
+            sharedAtlas = atlas(GameAssets.GAME_ATLAS);
+        }
+        compileCharacters();
+        compileMobs();
+        compileBosses();
+        for (ObjectMap.Entry<String, TextureAtlasData> atlas : atlases) {
+            writer.add(atlas.key, AtlasFormat.INSTANCE, atlas.value);
+        }
+        if (errors.size > 0) {
+            StringBuilder message = new StringBuilder("Invalid content:");
+            for (String error : errors) {
+                message.append("\n  ").append(error);
+            }
+            throw new GdxRuntimeException(message.toString());
+        }
+        return writer.toBytes();
+    }
+
+    private void compileCharacters() {
+        Array<CharacterDefinition> definitions = readList(GameAssets.CHARACTERS, CharacterDefinition.class);
+        if (definitions == null) {
+            return;
+        }
+        ObjectSet<String> ids = new ObjectSet<>();
+        for (CharacterDefinition definition : definitions) {
+            String where = GameAssets.CHARACTERS + " [" + definition.id + "]";
+            checkIdentity(where, ids, definition.id, definition.name);
+            if (definition.stats == null) {
+                errors.add(where + ": missing stats");
+            } else {
+                checkStats(where, definition.stats.maxHealth, definition.stats.attackDamage,
+                    definition.stats.speed, definition.stats.attackSpeed, definition.stats.attackRange);
+            }
+            compileAnimations(where, definition.animations);
+        }
+        writer.add(GameAssets.CHARACTERS, CharacterDefinitionFormat.INSTANCE, definitions);
+    }
+
+    private void compileMobs() {
+        Array<MobDefinition> definitions = readList(GameAssets.MOBS, MobDefinition.class);
+        if (definitions == null) {
+            return;
+        }
+        ObjectSet<String> ids = new ObjectSet<>();
+        for (MobDefinition definition : definitions) {
+            String where = GameAssets.MOBS + " [" + definition.id + "]";
+            checkIdentity(where, ids, definition.id, definition.name);
+            if (definition.stats == null) {
+                errors.add(where + ": missing stats");
+            } else {
+                checkStats(where, definition.stats.maxHealth, definition.stats.attackDamage,
+                    definition.stats.speed, definition.stats.attackSpeed, definition.stats.attackRange);
+            }
+            compileAnimations(where, definition.animations);
+        }
+        writer.add(GameAssets.MOBS, MobDefinitionFormat.INSTANCE, definitions);
+    }
+
+    private void compileBosses() {
+        Array<BossDefinition> definitions = readList(GameAssets.BOSSES, BossDefinition.class);
+        if (definitions == null) {
+            return;
+        }
+        ObjectSet<String> ids = new ObjectSet<>();
+        for (BossDefinition definition : definitions) {
+            String where = GameAssets.BOSSES + " [" + definition.id + "]";
+            checkIdentity(where, ids, definition.id, definition.name);
+            if (definition.stats == null) {
+                errors.add(where + ": missing stats");
+            } else {
+                checkStats(where, definition.stats.maxHealth, definition.stats.attackDamage,
+                    definition.stats.speed, definition.stats.attackSpeed, definition.stats.attackRange);
+            }
+            compileAnimations(where, definition.animations);
+        }
+        writer.add(GameAssets.BOSSES, BossDefinitionFormat.INSTANCE, definitions);
+    }
+
+    private void checkIdentity(String where, ObjectSet<String> ids, String id, String name) {
+        if (id == null || id.isEmpty()) {
+            errors.add(where + ": missing id");
+        } else if (!ids.add(id)) {
+            errors.add(where + ": duplicate id");
+        }
+        if (name == null || name.isEmpty()) {
+            errors.add(where + ": missing name");
+        }
+    }
+
+    private void checkStats(String where, int maxHealth, int attackDamage, float speed, float attackSpeed,
+                            float attackRange) {
+        if (maxHealth <= 0) {
+            errors.add(where + ": maxHealth must be positive");
+        }
+        if (attackDamage < 0) {
+            errors.add(where + ": attackDamage must not be negative");
+        }
+        if (speed <= 0f) {
+            errors.add(where + ": speed must be positive");
+        }
+        if (attackSpeed < 0f) {
+            errors.add(where + ": attackSpeed must not be negative");
+        }
+        if (attackRange < 0f) {
+            errors.add(where + ": attackRange must not be negative");
+        }
+    }
+
+    // Compiles an animation config (once, however many definitions share it) and its atlas.
+    private void compileAnimations(String owner, String path) {
+        if (path == null) {
+            errors.add(owner + ": missing animations");
+            return;
+        }
+        if (!compiledAnimations.add(path)) {
+            return;
+        }
+        if (!file(path).exists()) {
+            errors.add(owner + ": animations file not found: " + path);
+            return;
+        }
+        EntityAnimationConfig config;
+        try {
+            config = json.fromJson(EntityAnimationConfig.class, file(path));
+        } catch (RuntimeException e) {
+            errors.add(path + ": " + e.getMessage());
+            return;
+        }
+        TextureAtlasData atlas = null;
+        if (config.atlas == null) {
+            errors.add(path + ": missing atlas");
+        } else if (!file(config.atlas).exists()) {
+            errors.add(path + ": atlas not found: " + config.atlas);
+        } else {
+            atlas = atlas(config.atlas);
+        }
+        String regionPrefix = config.regionPrefix != null ? config.regionPrefix : "";
+        checkGroup(path, "walk", config.walk, atlas, regionPrefix);
+        checkGroup(path, "idle", config.idle, atlas, regionPrefix);
+        checkGroup(path, "attack", config.attack, atlas, regionPrefix);
+        // The game switches to the combined atlas at runtime, so its regions must exist too.
+        if (sharedAtlas != null && config.source != null) {
+            checkGroup(path, "walk", config.walk, sharedAtlas, config.source + "/");
+            checkGroup(path, "idle", config.idle, sharedAtlas, config.source + "/");
+            checkGroup(path, "attack", config.attack, sharedAtlas, config.source + "/");
+        }
+        writer.add(path, AnimationConfigFormat.INSTANCE, config);
+    }
+
+    private void checkGroup(String path, String name, DirectionalAnimations group, TextureAtlasData atlas,
+                            String regionPrefix) {
+        if (group == null) {
+            return;
+        }
+        checkSpec(path, name + ".top", group.top, atlas, regionPrefix);
+        checkSpec(path, name + ".bottom", group.bottom, atlas, regionPrefix);
+        checkSpec(path, name + ".left", group.left, atlas, regionPrefix);
+        checkSpec(path, name + ".right", group.right, atlas, regionPrefix);
+        checkSpec(path, name + ".topLeft", group.topLeft, atlas, regionPrefix);
+        checkSpec(path, name + ".topRight", group.topRight, atlas, regionPrefix);
+        checkSpec(path, name + ".bottomLeft", group.bottomLeft, atlas, regionPrefix);
+        checkSpec(path, name + ".bottomRight", group.bottomRight, atlas, regionPrefix);
+    }
+
+    private void checkSpec(String path, String name, AnimationSpec spec, TextureAtlasData atlas, String regionPrefix) {
+        if (spec == null) {
+            return;
+        }
+        String where = path + " " + name;
+        if (spec.prefix == null) {
+            errors.add(where + ": missing prefix");
+        } else if (atlas != null && !hasRegion(atlas, regionPrefix + spec.prefix)) {
+            errors.add(where + ": no region named " + regionPrefix + spec.prefix);
+        }
+        if (!(spec.frameDuration > 0f)) {
+            errors.add(where + ": frameDuration must be positive");
+        }
+        try {
+            Animation.PlayMode.valueOf(String.valueOf(spec.playMode));
+        } catch (IllegalArgumentException e) {
+            errors.add(where + ": unknown playMode " + spec.playMode);
+        }
+    }
+
+    private boolean hasRegion(TextureAtlasData atlas, String name) {
+        for (TextureAtlasData.Region region : atlas.getRegions()) {
+            if (region.name.equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Parses an atlas (once) and queues it for compilation.
+    private TextureAtlasData atlas(String path) {
+        TextureAtlasData atlas = atlases.get(path);
+        if (atlas == null) {
+            FileHandle file = file(path);
+            atlas = new TextureAtlasData(file, file.parent(), false);
+            for (TextureAtlasData.Page page : atlas.getPages()) {
+                if (!page.textureFile.exists()) {
+                    errors.add(path + ": page not found: " + page.name);
+                }
+            }
+            atlases.put(path, atlas);
+        }
+        return atlas;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Array<T> readList(String path, Class<T> type) {
+        if (!file(path).exists()) {
+            errors.add(path + ": not found");
+            return null;
+        }
+        try {
+            return json.fromJson(Array.class, type, file(path));
+        } catch (RuntimeException e) {
+            errors.add(path + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private FileHandle file(String path) {
+        return new FileHandle(new File(assetsDir, path));
+    }
+}
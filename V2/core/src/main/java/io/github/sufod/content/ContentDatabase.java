@@ -0,0 +1,144 @@
+package io.github.sufod.content;
+
+import com.badlogic.gdx.Files;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+// Read side of the compiled content blob (assets/content.bin, built by core:compileContent).
+// The file is memory-mapped when it is on disk. Opening only reads the index; strings are
+// decoded the first time they are used, and records every time they are read, so callers
+// get objects they are free to modify.
+//
+// Layout (big-endian):
+//   int magic, int version
+//   int stringCount, int[stringCount] string offsets
+//   int entryCount, entryCount x (int path string, int kind, int first record, int record count)
+//   int recordCount, int[recordCount] record offsets
+//   strings: unsigned short length + UTF-8 bytes
+//   records: encoded by their ContentFormat
+// Entries are keyed by the path of the source file the records came from.
+public class ContentDatabase {
+    static final int MAGIC = 0x53554643;
+    static final int VERSION = 2;
+
+    private final ByteBuffer buffer;
+    private final int stringCount;
+    private final int stringOffsets;
+    private final int recordOffsets;
+    private final int recordCount;
+    private final String[] strings;
+    private final ObjectIntMap<String> entryLookup = new ObjectIntMap<>();
+    private final int[] entryKind;
+    private final int[] entryFirst;
+    private final int[] entryCount;
+
+    public ContentDatabase(ByteBuffer buffer) {
+        // FileHandle.map() hands out native-order buffers; the file is always big-endian.
+        this.buffer = buffer.order(ByteOrder.BIG_ENDIAN);
+        if (buffer.getInt(0) != MAGIC) {
+            throw new GdxRuntimeException("Not a content database");
+        }
+        int version = buffer.getInt(4);
+        if (version != VERSION) {
+            throw new GdxRuntimeException("Content database version " + version + ", expected " + VERSION);
+        }
+        stringCount = buffer.getInt(8);
+        stringOffsets = 12;
+        strings = new String[stringCount];
+
+        int position = stringOffsets + stringCount * 4;
+        int entries = buffer.getInt(position);
+        entryKind = new int[entries];
+        entryFirst = new int[entries];
+        entryCount = new int[entries];
+        position += 4;
+        for (int i = 0; i < entries; i++) {
+            entryLookup.put(string(buffer.getInt(position)), i);
+            entryKind[i] = buffer.getInt(position + 4);
+            entryFirst[i] = buffer.getInt(position + 8);
+            entryCount[i] = buffer.getInt(position + 12);
+            position += 16;
+        }
+        recordCount = buffer.getInt(position);
+        recordOffsets = position + 4;
+    }
+
+    // Maps the file when it is a plain file on disk, else reads it into memory (e.g. inside a jar).
+    public static ContentDatabase open(FileHandle file) {
+        boolean onDisk = file.type() != Files.FileType.Classpath && file.file().isFile();
+        return new ContentDatabase(onDisk ? file.map() : ByteBuffer.wrap(file.readBytes()));
+    }
+
+    // Returns null when the file has not been compiled, so callers fall back to the JSON.
+    public static ContentDatabase openIfPresent(FileHandle file) {
+        return file.exists() ? open(file) : null;
+    }
+
+    // Whether the database holds records of this format for the source file.
+    public boolean contains(String sourcePath, ContentFormat<?> format) {
+        int entry = entryLookup.get(sourcePath, -1);
+        return entry != -1 && entryKind[entry] == format.kind();
+    }
+
+    public int count(String sourcePath) {
+        int entry = entryLookup.get(sourcePath, -1);
+        return entry != -1 ? entryCount[entry] : 0;
+    }
+
+    // Decodes the first record of a source file.
+    public <T> T read(String sourcePath, ContentFormat<T> format) {
+        int entry = requireEntry(sourcePath, format);
+        if (entryCount[entry] == 0) {
+            throw new GdxRuntimeException("No records for " + sourcePath);
+        }
+        return readRecord(entryFirst[entry], format);
+    }
+
+    // Decodes every record of a source file into out.
+    public <T> void readAll(String sourcePath, ContentFormat<T> format, Array<T> out) {
+        int entry = requireEntry(sourcePath, format);
+        out.ensureCapacity(entryCount[entry]);
+        for (int i = 0; i < entryCount[entry]; i++) {
+            out.add(readRecord(entryFirst[entry] + i, format));
+        }
+    }
+
+    private int requireEntry(String sourcePath, ContentFormat<?> format) {
+        int entry = entryLookup.get(sourcePath, -1);
+        if (entry == -1 || entryKind[entry] != format.kind()) {
+            throw new GdxRuntimeException("Content database has no " + format.getClass().getSimpleName() + " for " + sourcePath);
+        }
+        return entry;
+    }
+
+    private <T> T readRecord(int record, ContentFormat<T> format) {
+        if (record < 0 || record >= recordCount) {
+            throw new GdxRuntimeException("Bad record index " + record);
+        }
+        return format.read(new ContentInput(this, buffer, buffer.getInt(recordOffsets + record * 4)));
+    }
+
+    // Decodes a string on first use; index -1 is null.
+    String string(int index) {
+        if (index < 0) {
+            return null;
+        }
+        String value = strings[index];
+        if (value == null) {
+            int offset = buffer.getInt(stringOffsets + index * 4);
+            int length = buffer.getShort(offset) & 0xFFFF;
+            byte[] bytes = new byte[length];
+            for (int i = 0; i < length; i++) {
+                bytes[i] = buffer.get(offset + 2 + i);
+            }
+            value = new String(bytes, StandardCharsets.UTF_8);
+            strings[index] = value;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,12 @@
+package io.github.sufod.content;
+
+// Binary layout of one record type in the compiled content database.
+// Writers and readers live together so the two sides cannot drift apart.
+public interface ContentFormat<T> {
+    // Identifies the record type in the database; unique per format.
+    int kind();
+
+    void write(ContentOutput out, T value);
+
+    T read(ContentInput in);
+}
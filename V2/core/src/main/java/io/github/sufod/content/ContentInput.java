@@ -0,0 +1,38 @@
+package io.github.sufod.content;
+
+import java.nio.ByteBuffer;
+
+// Record decoder used by ContentFormat.read: a cursor over the database buffer.
+// Only absolute reads are used, so several inputs can share the buffer across threads.
+public class ContentInput {
+    private final ContentDatabase database;
+    private final ByteBuffer buffer;
+    private int position;
+
+    ContentInput(ContentDatabase database, ByteBuffer buffer, int position) {
+        this.database = database;
+        this.buffer = buffer;
+        this.position = position;
+    }
+
+    public int readInt() {
+        int value = buffer.getInt(position);
+        position += 4;
+        return value;
+    }
+
+    public float readFloat() {
+        float value = buffer.getFloat(position);
+        position += 4;
+        return value;
+    }
+
+    public boolean readBoolean() {
+        return buffer.get(position++) != 0;
+    }
+
+    // Reads a string table index; may return null.
+    public String readString() {
+        return database.string(readInt());
+    }
+}
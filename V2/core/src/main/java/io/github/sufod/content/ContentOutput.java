@@ -0,0 +1,50 @@
+package io.github.sufod.content;
+
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+// Record encoder used by ContentFormat.write. Strings go to the writer's shared table.
+public class ContentOutput {
+    private final ContentWriter writer;
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    private final DataOutputStream data = new DataOutputStream(bytes);
+
+    ContentOutput(ContentWriter writer) {
+        this.writer = writer;
+    }
+
+    public void writeInt(int value) {
+        try {
+            data.writeInt(value);
+        } catch (IOException e) {
+            throw new GdxRuntimeException(e);
+        }
+    }
+
+    public void writeFloat(float value) {
+        try {
+            data.writeFloat(value);
+        } catch (IOException e) {
+            throw new GdxRuntimeException(e);
+        }
+    }
+
+    public void writeBoolean(boolean value) {
+        try {
+            data.writeByte(value ? 1 : 0);
+        } catch (IOException e) {
+            throw new GdxRuntimeException(e);
+        }
+    }
+
+    // Writes a string table index; null is allowed.
+    public void writeString(String value) {
+        writeInt(writer.intern(value));
+    }
+
+    byte[] toByteArray() {
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,116 @@
+package io.github.sufod.content;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+// Builds a content database blob; see ContentDatabase for the layout.
+public class ContentWriter {
+    private final Array<String> strings = new Array<>();
+    private final ObjectIntMap<String> stringIndex = new ObjectIntMap<>();
+    private final Array<String> entryPaths = new Array<>();
+    private final ObjectIntMap<String> entryLookup = new ObjectIntMap<>();
+    // Per entry: kind, first record, record count.
+    private final Array<int[]> entries = new Array<>();
+    private final Array<byte[]> records = new Array<>();
+
+    // Adds the records read from one source file (e.g. every mob of mobs/mobs.json).
+    public <T> void add(String sourcePath, ContentFormat<T> format, Iterable<T> values) {
+        if (entryLookup.containsKey(sourcePath)) {
+            throw new GdxRuntimeException("Duplicate content entry: " + sourcePath);
+        }
+        int first = records.size;
+        for (T value : values) {
+            ContentOutput out = new ContentOutput(this);
+            format.write(out, value);
+            records.add(out.toByteArray());
+        }
+        intern(sourcePath);
+        entryLookup.put(sourcePath, entries.size);
+        entryPaths.add(sourcePath);
+        entries.add(new int[]{format.kind(), first, records.size - first});
+    }
+
+    public <T> void add(String sourcePath, ContentFormat<T> format, T value) {
+        Array<T> single = new Array<>(1);
+        single.add(value);
+        add(sourcePath, format, single);
+    }
+
+    int intern(String value) {
+        if (value == null) {
+            return -1;
+        }
+        int index = stringIndex.get(value, -1);
+        if (index == -1) {
+            index = strings.size;
+            strings.add(value);
+            stringIndex.put(value, index);
+        }
+        return index;
+    }
+
+    public byte[] toBytes() {
+        try {
+            byte[][] encoded = new byte[strings.size][];
+            int stringBytes = 0;
+            for (int i = 0; i < strings.size; i++) {
+                encoded[i] = strings.get(i).getBytes(StandardCharsets.UTF_8);
+                if (encoded[i].length > 0xFFFF) {
+                    throw new GdxRuntimeException("String too long for the content database: " + strings.get(i));
+                }
+                stringBytes += 2 + encoded[i].length;
+            }
+            int headerSize = 8;
+            int stringTableSize = 4 + strings.size * 4;
+            int entryTableSize = 4 + entries.size * 16;
+            int recordTableSize = 4 + records.size * 4;
+            int stringsStart = headerSize + stringTableSize + entryTableSize + recordTableSize;
+            int recordsStart = stringsStart + stringBytes;
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(ContentDatabase.MAGIC);
+            out.writeInt(ContentDatabase.VERSION);
+
+            out.writeInt(strings.size);
+            int offset = stringsStart;
+            for (byte[] string : encoded) {
+                out.writeInt(offset);
+                offset += 2 + string.length;
+            }
+
+            out.writeInt(entries.size);
+            for (int i = 0; i < entries.size; i++) {
+                int[] entry = entries.get(i);
+                out.writeInt(stringIndex.get(entryPaths.get(i), -1));
+                out.writeInt(entry[0]);
+                out.writeInt(entry[1]);
+                out.writeInt(entry[2]);
+            }
+
+            out.writeInt(records.size);
+            offset = recordsStart;
+            for (byte[] record : records) {
+                out.writeInt(offset);
+                offset += record.length;
+            }
+
+            for (byte[] string : encoded) {
+                out.writeShort(string.length);
+                out.write(string);
+            }
+            for (byte[] record : records) {
+                out.write(record);
+            }
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new GdxRuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package io.github.sufod.debug;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.CharArray;
+import io.github.sufod.sim.RenderSnapshot;
+import java.util.Arrays;
+
+// Toggleable overlay: frame time percentiles, phase timings, GL counters and live counts.
+// Nothing is allocated per frame: samples go to fixed arrays and the text is rebuilt
+// in place a few times per second (CharArray formats numbers without garbage).
+// Simulation numbers come from the drawn RenderSnapshot, so the HUD never reads
+// state the simulation thread may be writing.
+public class PerfHud implements Disposable {
+    private static final int FRAME_SAMPLES = 240;
+    private static final float REFRESH_INTERVAL = 0.25f;
+    private static final float MARGIN = 10f;
+
+    // Render thread timings (DRAW); the simulation phases come with each snapshot.
+    private final PhaseTimer phases;
+    private final BitmapFont font = new BitmapFont();
+    private final GLProfiler profiler = new GLProfiler(Gdx.graphics);
+    private final CharArray text = new CharArray(512);
+
+    // Ring buffer of frame times in nanoseconds, plus a scratch copy for sorting.
+    private final long[] frameTimes = new long[FRAME_SAMPLES];
+    private final long[] sorted = new long[FRAME_SAMPLES];
+    private int frameCount;
+    private int frameIndex;
+
+    private boolean visible;
+    private float sinceRefresh = REFRESH_INTERVAL;
+
+    // GL counters of the last scene, read before the HUD draws itself.
+    private int drawCalls;
+    private int textureBindings;
+    private int shaderSwitches;
+    private int vertices;
+
+    public PerfHud(PhaseTimer phases) {
+        this.phases = phases;
+        font.setColor(Color.WHITE);
+    }
+
+    public void toggle() {
+        visible = !visible;
+        if (visible) {
+            profiler.reset();
+            profiler.enable();
+            sinceRefresh = REFRESH_INTERVAL;
+        } else {
+            profiler.disable();
+        }
+    }
+
+    public boolean isVisible() {
+        return visible;
+    }
+
+    // Call once per frame with the frame delta.
+    public void frameStarted(float delta) {
+        frameTimes[frameIndex] = (long) (delta * 1_000_000_000L);
+        frameIndex = (frameIndex + 1) % FRAME_SAMPLES;
+        if (frameCount < FRAME_SAMPLES) {
+            frameCount++;
+        }
+    }
+
+    // Call inside batch.begin()/end(), after the scene has been flushed.
+    public void draw(Batch batch, float delta, RenderSnapshot snapshot) {
+        if (!visible) {
+            return;
+        }
+        drawCalls = profiler.getDrawCalls();
+        textureBindings = profiler.getTextureBindings();
+        shaderSwitches = profiler.getShaderSwitches();
+        vertices = (int) profiler.getVertexCount().total;
+        profiler.reset();
+
+        sinceRefresh += delta;
+        if (sinceRefresh >= REFRESH_INTERVAL) {
+            sinceRefresh = 0f;
+            rebuildText(snapshot);
+        }
+        font.draw(batch, text, MARGIN, Gdx.graphics.getHeight() - MARGIN);
+    }
+
+    private void rebuildText(RenderSnapshot snapshot) {
+        System.arraycopy(frameTimes, 0, sorted, 0, frameCount);
+        Arrays.sort(sorted, 0, frameCount);
+
+        text.clear();
+        text.append("FPS ").append(Gdx.graphics.getFramesPerSecond()).append('\n');
+        text.append("frame p50 ");
+        appendMillis(percentile(0.50f));
+        text.append(" p95 ");
+        appendMillis(percentile(0.95f));
+        text.append(" p99 ");
+        appendMillis(percentile(0.99f));
+        text.append(" max ");
+        appendMillis(frameCount > 0 ? sorted[frameCount - 1] : 0L);
+        text.append('\n');
+
+        text.append("update ");
+        appendMillis(snapshot.phaseNanos[PhaseTimer.UPDATE]);
+        text.append(" prune ");
+        appendMillis(snapshot.phaseNanos[PhaseTimer.PRUNE]);
+        text.append(" waves ");
+        appendMillis(snapshot.phaseNanos[PhaseTimer.WAVES]);
+        text.append(" draw ");
+        appendMillis(phases.getNanos(PhaseTimer.DRAW));
+        text.append('\n');
+
+        text.append("draw calls ").append(drawCalls)
+            .append("  textures ").append(textureBindings)
+            .append("  shaders ").append(shaderSwitches)
+            .append("  vertices ").append(vertices).append('\n');
+
+        text.append("entities ").append(snapshot.entityCount)
+            .append("  bosses ").append(snapshot.bossCount)
+            .append("  mobs ").append(snapshot.mobCount)
+            .append('/').append(snapshot.mobCapacity).append(" slots")
+            .append("  sprites ").append(snapshot.size());
+    }
+
+    private long percentile(float q) {
+        if (frameCount == 0) {
+            return 0L;
+        }
+        return sorted[Math.min(frameCount - 1, (int) (q * frameCount))];
+    }
+
+    // Appends nanos as milliseconds with two decimals, e.g. "16.67ms".
+    private void appendMillis(long nanos) {
+        long micros = nanos / 1000L;
+        text.append(micros / 1000L).append('.');
+        int hundredths = (int) (micros % 1000L) / 10;
+        if (hundredths < 10) {
+            text.append('0');
+        }
+        text.append(hundredths).append("ms");
+    }
+
+    @Override
+    public void dispose() {
+        profiler.disable();
+        font.dispose();
+    }
+}
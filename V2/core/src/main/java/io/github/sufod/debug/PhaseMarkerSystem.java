@@ -0,0 +1,25 @@
+package io.github.sufod.debug;
+
+import com.badlogic.ashley.core.EntitySystem;
+
+// Empty system slotted between the simulation systems (by priority) to time them:
+// it closes the phase that ran before it, or starts timing if phase is -1.
+public class PhaseMarkerSystem extends EntitySystem {
+    private final PhaseTimer timer;
+    private final int phase;
+
+    public PhaseMarkerSystem(int priority, PhaseTimer timer, int phase) {
+        super(priority);
+        this.timer = timer;
+        this.phase = phase;
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        if (phase < 0) {
+            timer.start();
+        } else {
+            timer.lap(phase);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package io.github.sufod.debug;
+
+// Wall-clock time per frame phase. lap() charges the time since the previous
+// start()/lap() to a phase; a frame's totals are published by endFrame().
+public class PhaseTimer {
+    public static final int UPDATE = 0;
+    public static final int PRUNE = 1;
+    public static final int WAVES = 2;
+    public static final int DRAW = 3;
+    public static final int COUNT = 4;
+
+    private final long[] current = new long[COUNT];
+    private final long[] last = new long[COUNT];
+    private long mark;
+
+    public void start() {
+        mark = System.nanoTime();
+    }
+
+    public void lap(int phase) {
+        long now = System.nanoTime();
+        current[phase] += now - mark;
+        mark = now;
+    }
+
+    public void endFrame() {
+        for (int i = 0; i < COUNT; i++) {
+            last[i] = current[i];
+            current[i] = 0L;
+        }
+    }
+
+    // Nanoseconds spent in phase during the last finished frame (summed over its ticks).
+    public long getNanos(int phase) {
+        return last[phase];
+    }
+}
@@ -1,6 +1,16 @@
 package io.github.sufod.entities;
 
 public enum Direction {
-    UP, DOWN, LEFT, RIGHT,
-    UP_LEFT, UP_RIGHT, DOWN_LEFT, DOWN_RIGHT
+    UP(0f, 1f), DOWN(0f, -1f), LEFT(-1f, 0f), RIGHT(1f, 0f),
+    UP_LEFT(-0.70710677f, 0.70710677f), UP_RIGHT(0.70710677f, 0.70710677f),
+    DOWN_LEFT(-0.70710677f, -0.70710677f), DOWN_RIGHT(0.70710677f, -0.70710677f);
+
+    // Unit vector pointing this way.
+    public final float x;
+    public final float y;
+
+    Direction(float x, float y) {
+        this.x = x;
+        this.y = y;
+    }
 }
@@ -0,0 +1,104 @@
+package io.github.sufod.entities;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.PooledEngine;
+import com.badlogic.gdx.utils.Array;
+import io.github.sufod.boss.BossStats;
+import io.github.sufod.characters.CharacterStats;
+import io.github.sufod.components.BossComponent;
+import io.github.sufod.components.CombatComponent;
+import io.github.sufod.components.FacingComponent;
+import io.github.sufod.components.HealthComponent;
+import io.github.sufod.components.PlayerComponent;
+import io.github.sufod.components.PositionComponent;
+import io.github.sufod.components.VelocityComponent;
+import io.github.sufod.input.InputSource;
+
+// Assembles the player and bosses from pooled components and adds them to the engine.
+// Entities removed from the PooledEngine are reset and reused by the next spawn.
+// Only simulation components are added here; the screen attaches animations.
+public class EntityFactory {
+    private static final BossStats PREWARM_BOSS_STATS = new BossStats();
+
+    private final PooledEngine engine;
+
+    public EntityFactory(PooledEngine engine) {
+        this.engine = engine;
+    }
+
+    public Entity createPlayer(float x, float y, CharacterStats stats, InputSource input) {
+        Entity entity = engine.createEntity();
+        entity.add(position(x, y));
+        entity.add(velocity(stats.speed));
+        entity.add(health(stats.maxHealth));
+        entity.add(combat(stats.attackDamage, stats.attackSpeed, stats.attackRange));
+        entity.add(engine.createComponent(FacingComponent.class));
+
+        PlayerComponent player = engine.createComponent(PlayerComponent.class);
+        player.input = input;
+        entity.add(player);
+
+        engine.addEntity(entity);
+        return entity;
+    }
+
+    public Entity createBoss(String id, float x, float y, BossStats stats) {
+        Entity entity = engine.createEntity();
+        entity.add(position(x, y));
+        // Bosses hold still for now; the velocity only feeds idle/walk selection.
+        entity.add(velocity(stats.speed));
+        entity.add(health(stats.maxHealth));
+        entity.add(combat(stats.attackDamage, stats.attackSpeed, stats.attackRange));
+        entity.add(engine.createComponent(FacingComponent.class));
+
+        BossComponent boss = engine.createComponent(BossComponent.class);
+        boss.id = id;
+        entity.add(boss);
+
+        engine.addEntity(entity);
+        return entity;
+    }
+
+    // Fills the engine pools with count boss entities so later spawns don't allocate.
+    // PooledEngine has no fill(), so the entities are added and immediately removed.
+    public void prewarmBosses(int count) {
+        if (count <= 0) {
+            return;
+        }
+        Array<Entity> warm = new Array<>(count);
+        for (int i = 0; i < count; i++) {
+            warm.add(createBoss(null, 0f, 0f, PREWARM_BOSS_STATS));
+        }
+        for (Entity entity : warm) {
+            engine.removeEntity(entity);
+        }
+    }
+
+    private PositionComponent position(float x, float y) {
+        PositionComponent position = engine.createComponent(PositionComponent.class);
+        position.position.set(x, y);
+        position.previous.set(x, y);
+        return position;
+    }
+
+    private VelocityComponent velocity(float speed) {
+        VelocityComponent velocity = engine.createComponent(VelocityComponent.class);
+        velocity.speed = speed;
+        return velocity;
+    }
+
+    private HealthComponent health(int maxHealth) {
+        HealthComponent health = engine.createComponent(HealthComponent.class);
+        health.maxHealth = maxHealth;
+        health.health = maxHealth;
+        return health;
+    }
+
+    private CombatComponent combat(int attackDamage, float attackSpeed, float attackRange) {
+        CombatComponent combat = engine.createComponent(CombatComponent.class);
+        combat.attackDamage = attackDamage;
+        combat.attackSpeed = attackSpeed;
+        combat.attackRange = attackRange;
+        return combat;
+    }
+}
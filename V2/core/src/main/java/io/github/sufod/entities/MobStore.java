@@ -0,0 +1,234 @@
+package io.github.sufod.entities;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import io.github.sufod.mobs.MobStats;
+import io.github.sufod.sim.FlowField;
+import java.util.Arrays;
+
+// Structure-of-arrays storage for every live mob.
+// Slot i of each array belongs to the same mob; slots [0, size) are live.
+// The arrays are public so hot loops can read them linearly, but they are
+// reallocated when the store grows: re-read them after calling add().
+public class MobStore {
+    private static final int DEFAULT_CAPACITY = 256;
+    // Used when a mob type does not define an attackRange.
+    private static final float DEFAULT_ATTACK_RANGE = 40f;
+
+    public float[] x;
+    public float[] y;
+    // Positions at the start of the current tick, for render interpolation.
+    public float[] prevX;
+    public float[] prevY;
+    public float[] vx;
+    public float[] vy;
+    public int[] health;
+    public short[] typeIndex;
+    public float[] stateTime;
+    // Seconds since the mob last hit its target.
+    public float[] attackTimer;
+
+    private int size;
+
+    // Per-type data, indexed by typeIndex.
+    private final Array<String> typeIds = new Array<>();
+    private final Array<MobStats> typeStats = new Array<>();
+    private final ObjectIntMap<String> typeLookup = new ObjectIntMap<>();
+
+    public MobStore() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public MobStore(int capacity) {
+        allocate(Math.max(1, capacity));
+    }
+
+    // Registers a mob type and returns its index (existing ids keep their index).
+    public int registerType(String id, MobStats stats) {
+        int existing = typeLookup.get(id, -1);
+        if (existing != -1) {
+            typeStats.set(existing, stats);
+            return existing;
+        }
+        if (typeIds.size > Short.MAX_VALUE) {
+            throw new IllegalStateException("Too many mob types: " + typeIds.size);
+        }
+        int index = typeIds.size;
+        typeIds.add(id);
+        typeStats.add(stats);
+        typeLookup.put(id, index);
+        return index;
+    }
+
+    // Returns the index registered for id, or -1 if unknown.
+    public int getTypeIndex(String id) {
+        return typeLookup.get(id, -1);
+    }
+
+    public int getTypeCount() {
+        return typeIds.size;
+    }
+
+    public String getTypeId(int type) {
+        return typeIds.get(type);
+    }
+
+    public MobStats getTypeStats(int type) {
+        return typeStats.get(type);
+    }
+
+    // Appends a mob of the given type at (spawnX, spawnY) and returns its slot.
+    public int add(int type, float spawnX, float spawnY) {
+        if (size == x.length) {
+            ensureCapacity(size * 2);
+        }
+        int i = size++;
+        x[i] = spawnX;
+        y[i] = spawnY;
+        prevX[i] = spawnX;
+        prevY[i] = spawnY;
+        vx[i] = 0f;
+        vy[i] = 0f;
+        health[i] = typeStats.get(type).maxHealth;
+        typeIndex[i] = (short) type;
+        stateTime[i] = 0f;
+        attackTimer[i] = 0f;
+        return i;
+    }
+
+    // Remembers the current positions as the previous tick's.
+    public void savePreviousPositions() {
+        System.arraycopy(x, 0, prevX, 0, size);
+        System.arraycopy(y, 0, prevY, 0, size);
+    }
+
+    // Advances mobs [start, end) by delta seconds, chasing (targetX, targetY) if hasTarget.
+    // Mobs follow flow (built for the same target) where it has a direction, and head
+    // straight for the target otherwise; flow may be null.
+    // Only writes the slots in range, so disjoint ranges can run on different threads.
+    // Slots of mobs that hit the target this tick are appended to attacks.
+    public void update(int start, int end, float delta, boolean hasTarget, float targetX, float targetY,
+                       FlowField flow, IntArray attacks) {
+        float[] x = this.x;
+        float[] y = this.y;
+        float[] vx = this.vx;
+        float[] vy = this.vy;
+        float[] stateTime = this.stateTime;
+        float[] attackTimer = this.attackTimer;
+        for (int i = start; i < end; i++) {
+            stateTime[i] += delta;
+            attackTimer[i] += delta;
+            if (hasTarget) {
+                MobStats stats = typeStats.get(typeIndex[i]);
+                float range = stats.attackRange > 0f ? stats.attackRange : DEFAULT_ATTACK_RANGE;
+                float dx = targetX - x[i];
+                float dy = targetY - y[i];
+                float distance2 = dx * dx + dy * dy;
+                if (distance2 > range * range) {
+                    int cell = flow != null ? flow.cellOf(x[i], y[i]) : -1;
+                    if (cell != -1 && flow.hasDirection(cell)) {
+                        vx[i] = flow.getDirectionX(cell) * stats.speed;
+                        vy[i] = flow.getDirectionY(cell) * stats.speed;
+                    } else {
+                        float scale = stats.speed / (float) Math.sqrt(distance2);
+                        vx[i] = dx * scale;
+                        vy[i] = dy * scale;
+                    }
+                } else {
+                    vx[i] = 0f;
+                    vy[i] = 0f;
+                    if (stats.attackSpeed > 0f && attackTimer[i] >= 1f / stats.attackSpeed) {
+                        attackTimer[i] = 0f;
+                        attacks.add(i);
+                    }
+                }
+            } else {
+                vx[i] = 0f;
+                vy[i] = 0f;
+            }
+            x[i] += vx[i] * delta;
+            y[i] += vy[i] * delta;
+        }
+    }
+
+    public void takeDamage(int index, int amount) {
+        int remaining = health[index] - amount;
+        health[index] = remaining < 0 ? 0 : remaining;
+    }
+
+    public boolean isDead(int index) {
+        return health[index] <= 0;
+    }
+
+    // Removes the mob in slot index by moving the last mob into it.
+    // Iterate backwards when removing inside a loop.
+    public void remove(int index) {
+        int last = --size;
+        if (index != last) {
+            x[index] = x[last];
+            y[index] = y[last];
+            prevX[index] = prevX[last];
+            prevY[index] = prevY[last];
+            vx[index] = vx[last];
+            vy[index] = vy[last];
+            health[index] = health[last];
+            typeIndex[index] = typeIndex[last];
+            stateTime[index] = stateTime[last];
+            attackTimer[index] = attackTimer[last];
+        }
+    }
+
+    // Drops every dead mob and returns how many were removed.
+    public int removeDead() {
+        int removed = 0;
+        for (int i = size - 1; i >= 0; i--) {
+            if (health[i] <= 0) {
+                remove(i);
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return x.length;
+    }
+
+    public void ensureCapacity(int capacity) {
+        if (capacity <= x.length) {
+            return;
+        }
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        prevX = Arrays.copyOf(prevX, capacity);
+        prevY = Arrays.copyOf(prevY, capacity);
+        vx = Arrays.copyOf(vx, capacity);
+        vy = Arrays.copyOf(vy, capacity);
+        health = Arrays.copyOf(health, capacity);
+        typeIndex = Arrays.copyOf(typeIndex, capacity);
+        stateTime = Arrays.copyOf(stateTime, capacity);
+        attackTimer = Arrays.copyOf(attackTimer, capacity);
+    }
+
+    private void allocate(int capacity) {
+        x = new float[capacity];
+        y = new float[capacity];
+        prevX = new float[capacity];
+        prevY = new float[capacity];
+        vx = new float[capacity];
+        vy = new float[capacity];
+        health = new int[capacity];
+        typeIndex = new short[capacity];
+        stateTime = new float[capacity];
+        attackTimer = new float[capacity];
+    }
+}
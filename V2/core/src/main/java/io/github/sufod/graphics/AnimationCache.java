@@ -0,0 +1,78 @@
+package io.github.sufod.graphics;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+
+// Shared EntityAnimations keyed by config path, reference counted.
+// Configs and their atlases are loaded through the AssetManager, which holds one
+// reference per loaded config; atlases shared by several configs are counted there too.
+// Each queue() or acquire() must be paired with a release() of the same config path.
+public class AnimationCache {
+    private final AssetManager assets;
+    private final AnimationConfigLoader loader;
+    private final ObjectMap<String, EntityAnimations> animations = new ObjectMap<>();
+    private final ObjectIntMap<String> references = new ObjectIntMap<>();
+
+    public AnimationCache(AssetManager assets) {
+        this(assets, new AnimationConfigLoader());
+    }
+
+    public AnimationCache(AssetManager assets, AnimationConfigLoader loader) {
+        this.assets = assets;
+        this.loader = loader;
+    }
+
+    // Takes a reference and starts loading the config in the background if it is new.
+    public void queue(String configPath) {
+        if (references.getAndIncrement(configPath, 0, 1) == 0) {
+            assets.load(configPath, EntityAnimationConfig.class);
+        }
+    }
+
+    // Takes a reference and returns the animations, finishing the load synchronously if needed.
+    public EntityAnimations acquire(String configPath) {
+        queue(configPath);
+        EntityAnimations cached = animations.get(configPath);
+        if (cached == null) {
+            if (!assets.isLoaded(configPath, EntityAnimationConfig.class)) {
+                assets.finishLoadingAsset(configPath);
+            }
+            EntityAnimationConfig config = assets.get(configPath, EntityAnimationConfig.class);
+            cached = loader.build(config, assets.get(config.atlas, TextureAtlas.class));
+            animations.put(configPath, cached);
+        }
+        return cached;
+    }
+
+    // Drops one reference; the config (and its atlas, if unused) is unloaded at zero.
+    public void release(String configPath) {
+        int count = references.get(configPath, 0);
+        if (count <= 0) {
+            return;
+        }
+        if (count > 1) {
+            references.put(configPath, count - 1);
+            return;
+        }
+        references.remove(configPath, 0);
+        animations.remove(configPath);
+        assets.unload(configPath);
+    }
+
+    public boolean isLoaded(String configPath) {
+        return assets.isLoaded(configPath, EntityAnimationConfig.class);
+    }
+
+    // Unloads everything, whatever the reference counts.
+    public void dispose() {
+        for (ObjectIntMap.Entry<String> entry : references.entries()) {
+            if (assets.contains(entry.key)) {
+                assets.unload(entry.key);
+            }
+        }
+        references.clear();
+        animations.clear();
+    }
+}
@@ -0,0 +1,61 @@
+package io.github.sufod.graphics;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetLoaderParameters;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.AsynchronousAssetLoader;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.Array;
+import io.github.sufod.content.ContentDatabase;
+
+// AssetManager loader for an EntityAnimationConfig. The config's atlas is declared as a
+// dependency, so the AssetManager loads (and reference counts) it alongside the config.
+// Parsing happens on the loading thread; only the atlas pages are uploaded on the GL thread.
+// With a shared atlas, configs that know their source directory use it instead of their own,
+// so every entity draws from the same pages.
+public class AnimationConfigAssetLoader
+    extends AsynchronousAssetLoader<EntityAnimationConfig, AnimationConfigAssetLoader.Parameters> {
+    private final AnimationConfigLoader loader;
+    // Combined atlas path, or null to always use each config's own atlas.
+    private final String sharedAtlas;
+    private EntityAnimationConfig config;
+
+    public AnimationConfigAssetLoader(FileHandleResolver resolver) {
+        this(resolver, null, null);
+    }
+
+    // content may be null to always parse the JSON.
+    public AnimationConfigAssetLoader(FileHandleResolver resolver, String sharedAtlas, ContentDatabase content) {
+        super(resolver);
+        this.sharedAtlas = sharedAtlas;
+        this.loader = new AnimationConfigLoader(content);
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Array<AssetDescriptor> getDependencies(String fileName, FileHandle file, Parameters parameter) {
+        config = loader.loadConfig(file);
+        if (sharedAtlas != null) {
+            config.useSharedAtlas(sharedAtlas);
+        }
+        Array<AssetDescriptor> dependencies = new Array<>();
+        dependencies.add(new AssetDescriptor<>(config.atlas, TextureAtlas.class));
+        return dependencies;
+    }
+
+    @Override
+    public void loadAsync(AssetManager manager, String fileName, FileHandle file, Parameters parameter) {
+    }
+
+    @Override
+    public EntityAnimationConfig loadSync(AssetManager manager, String fileName, FileHandle file, Parameters parameter) {
+        EntityAnimationConfig result = config;
+        config = null;
+        return result;
+    }
+
+    public static class Parameters extends AssetLoaderParameters<EntityAnimationConfig> {
+    }
+}
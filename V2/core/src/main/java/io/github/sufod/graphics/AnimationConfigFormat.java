@@ -0,0 +1,91 @@
+package io.github.sufod.graphics;
+
+import io.github.sufod.content.ContentFormat;
+import io.github.sufod.content.ContentInput;
+import io.github.sufod.content.ContentOutput;
+
+// Compiled form of an EntityAnimationConfig (see ContentDatabase).
+// Missing groups and directions are written as a false presence flag.
+public class AnimationConfigFormat implements ContentFormat<EntityAnimationConfig> {
+    public static final AnimationConfigFormat INSTANCE = new AnimationConfigFormat();
+    public static final int KIND = 4;
+
+    @Override
+    public int kind() {
+        return KIND;
+    }
+
+    @Override
+    public void write(ContentOutput out, EntityAnimationConfig value) {
+        out.writeString(value.atlas);
+        out.writeString(value.source);
+        out.writeString(value.regionPrefix);
+        writeGroup(out, value.walk);
+        writeGroup(out, value.idle);
+        writeGroup(out, value.attack);
+    }
+
+    @Override
+    public EntityAnimationConfig read(ContentInput in) {
+        EntityAnimationConfig value = new EntityAnimationConfig();
+        value.atlas = in.readString();
+        value.source = in.readString();
+        value.regionPrefix = in.readString();
+        value.walk = readGroup(in);
+        value.idle = readGroup(in);
+        value.attack = readGroup(in);
+        return value;
+    }
+
+    private void writeGroup(ContentOutput out, DirectionalAnimations group) {
+        out.writeBoolean(group != null);
+        if (group == null) {
+            return;
+        }
+        writeSpec(out, group.top);
+        writeSpec(out, group.bottom);
+        writeSpec(out, group.left);
+        writeSpec(out, group.right);
+        writeSpec(out, group.topLeft);
+        writeSpec(out, group.topRight);
+        writeSpec(out, group.bottomLeft);
+        writeSpec(out, group.bottomRight);
+    }
+
+    private DirectionalAnimations readGroup(ContentInput in) {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        DirectionalAnimations group = new DirectionalAnimations();
+        group.top = readSpec(in);
+        group.bottom = readSpec(in);
+        group.left = readSpec(in);
+        group.right = readSpec(in);
+        group.topLeft = readSpec(in);
+        group.topRight = readSpec(in);
+        group.bottomLeft = readSpec(in);
+        group.bottomRight = readSpec(in);
+        return group;
+    }
+
+    private void writeSpec(ContentOutput out, AnimationSpec spec) {
+        out.writeBoolean(spec != null);
+        if (spec == null) {
+            return;
+        }
+        out.writeString(spec.prefix);
+        out.writeFloat(spec.frameDuration);
+        out.writeString(spec.playMode);
+    }
+
+    private AnimationSpec readSpec(ContentInput in) {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        AnimationSpec spec = new AnimationSpec();
+        spec.prefix = in.readString();
+        spec.frameDuration = in.readFloat();
+        spec.playMode = in.readString();
+        return spec;
+    }
+}
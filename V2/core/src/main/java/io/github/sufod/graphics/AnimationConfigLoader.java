@@ -1,36 +1,57 @@
 package io.github.sufod.graphics;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Json;
+import io.github.sufod.content.ContentDatabase;
 import io.github.sufod.entities.Direction;
 import java.util.EnumMap;
 import java.util.Map;
 
 public class AnimationConfigLoader {
     private final Json json = new Json();
+    // Compiled content, or null to always parse the JSON.
+    private final ContentDatabase content;
 
-    // Loads a JSON animation config and builds runtime animations.
-    public EntityAnimations load(String jsonPath) {
-        EntityAnimationConfig config = json.fromJson(
-            EntityAnimationConfig.class,
-            Gdx.files.internal(jsonPath)
-        );
+    public AnimationConfigLoader() {
+        this(null);
+    }
 
-        TextureAtlas atlas = new TextureAtlas(Gdx.files.internal(config.atlas));
+    public AnimationConfigLoader(ContentDatabase content) {
+        this.content = content;
+    }
 
-        Map<Direction, Animation<TextureRegion>> walk = buildDirectional(atlas, config.walk);
-        Map<Direction, Animation<TextureRegion>> idle = buildDirectional(atlas, config.idle);
-        Map<Direction, Animation<TextureRegion>> attack = buildDirectional(atlas, config.attack);
+    // Builds runtime animations from a parsed config and its already loaded atlas.
+    // The atlas is not owned by the result; see AnimationCache.
+    public EntityAnimations build(EntityAnimationConfig config, TextureAtlas atlas) {
+        String regionPrefix = config.regionPrefix != null ? config.regionPrefix : "";
+        Map<Direction, Animation<TextureRegion>> walk = buildDirectional(atlas, regionPrefix, config.walk);
+        Map<Direction, Animation<TextureRegion>> idle = buildDirectional(atlas, regionPrefix, config.idle);
+        Map<Direction, Animation<TextureRegion>> attack = buildDirectional(atlas, regionPrefix, config.attack);
 
         return new EntityAnimations(atlas, walk, idle, attack);
     }
 
+    // Parses the JSON animation config only (no atlas, no GL).
+    public EntityAnimationConfig loadConfig(String jsonPath) {
+        return loadConfig(Gdx.files.internal(jsonPath));
+    }
+
+    // Reads the compiled config when the database has this file, else parses the JSON.
+    public EntityAnimationConfig loadConfig(FileHandle file) {
+        if (content != null && content.contains(file.path(), AnimationConfigFormat.INSTANCE)) {
+            return content.read(file.path(), AnimationConfigFormat.INSTANCE);
+        }
+        return json.fromJson(EntityAnimationConfig.class, file);
+    }
+
     private Map<Direction, Animation<TextureRegion>> buildDirectional(
         TextureAtlas atlas,
+        String regionPrefix,
         DirectionalAnimations dir
     ) {
         Map<Direction, Animation<TextureRegion>> map = new EnumMap<>(Direction.class);
@@ -39,14 +60,14 @@ public class AnimationConfigLoader {
             return map;
         }
 
-        putIfPresent(map, Direction.UP, dir.top, atlas);
-        putIfPresent(map, Direction.DOWN, dir.bottom, atlas);
-        putIfPresent(map, Direction.LEFT, dir.left, atlas);
-        putIfPresent(map, Direction.RIGHT, dir.right, atlas);
-        putIfPresent(map, Direction.UP_LEFT, dir.topLeft, atlas);
-        putIfPresent(map, Direction.UP_RIGHT, dir.topRight, atlas);
-        putIfPresent(map, Direction.DOWN_LEFT, dir.bottomLeft, atlas);
-        putIfPresent(map, Direction.DOWN_RIGHT, dir.bottomRight, atlas);
+        putIfPresent(map, Direction.UP, dir.top, atlas, regionPrefix);
+        putIfPresent(map, Direction.DOWN, dir.bottom, atlas, regionPrefix);
+        putIfPresent(map, Direction.LEFT, dir.left, atlas, regionPrefix);
+        putIfPresent(map, Direction.RIGHT, dir.right, atlas, regionPrefix);
+        putIfPresent(map, Direction.UP_LEFT, dir.topLeft, atlas, regionPrefix);
+        putIfPresent(map, Direction.UP_RIGHT, dir.topRight, atlas, regionPrefix);
+        putIfPresent(map, Direction.DOWN_LEFT, dir.bottomLeft, atlas, regionPrefix);
+        putIfPresent(map, Direction.DOWN_RIGHT, dir.bottomRight, atlas, regionPrefix);
 
         return map;
     }
@@ -55,14 +76,15 @@ public class AnimationConfigLoader {
         Map<Direction, Animation<TextureRegion>> map,
         Direction dir,
         AnimationSpec spec,
-        TextureAtlas atlas
+        TextureAtlas atlas,
+        String regionPrefix
     ) {
         if (spec == null) {
             return;
         }
 
         // Collect all regions matching the prefix and build the animation.
-        Array<TextureAtlas.AtlasRegion> frames = atlas.findRegions(spec.prefix);
+        Array<TextureAtlas.AtlasRegion> frames = atlas.findRegions(regionPrefix + spec.prefix);
         Animation.PlayMode mode = Animation.PlayMode.valueOf(spec.playMode);
 
         map.put(dir, new Animation<>(spec.frameDuration, frames, mode));
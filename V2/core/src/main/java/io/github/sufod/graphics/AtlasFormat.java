@@ -0,0 +1,129 @@
+package io.github.sufod.graphics;
+
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import io.github.sufod.content.ContentFormat;
+import io.github.sufod.content.ContentInput;
+import io.github.sufod.content.ContentOutput;
+
+// Compiled form of a parsed .atlas file (see ContentDatabase), so the region list does not
+// have to be re-parsed from text at startup. Page texture files are not stored: like the
+// text format, they are resolved next to the atlas by CompiledAtlasLoader.
+// Enums are stored by name so the blob does not depend on libGDX's constant order.
+public class AtlasFormat implements ContentFormat<TextureAtlasData> {
+    public static final AtlasFormat INSTANCE = new AtlasFormat();
+    public static final int KIND = 5;
+
+    @Override
+    public int kind() {
+        return KIND;
+    }
+
+    @Override
+    public void write(ContentOutput out, TextureAtlasData value) {
+        Array<TextureAtlasData.Page> pages = value.getPages();
+        ObjectIntMap<TextureAtlasData.Page> pageIndex = new ObjectIntMap<>();
+        out.writeInt(pages.size);
+        for (int i = 0; i < pages.size; i++) {
+            TextureAtlasData.Page page = pages.get(i);
+            pageIndex.put(page, i);
+            out.writeString(page.name);
+            out.writeFloat(page.width);
+            out.writeFloat(page.height);
+            out.writeBoolean(page.useMipMaps);
+            out.writeString(page.format.name());
+            out.writeString(page.minFilter.name());
+            out.writeString(page.magFilter.name());
+            out.writeString(page.uWrap.name());
+            out.writeString(page.vWrap.name());
+            out.writeBoolean(page.pma);
+        }
+
+        Array<TextureAtlasData.Region> regions = value.getRegions();
+        out.writeInt(regions.size);
+        for (TextureAtlasData.Region region : regions) {
+            out.writeInt(pageIndex.get(region.page, -1));
+            out.writeString(region.name);
+            out.writeInt(region.left);
+            out.writeInt(region.top);
+            out.writeInt(region.width);
+            out.writeInt(region.height);
+            out.writeFloat(region.offsetX);
+            out.writeFloat(region.offsetY);
+            out.writeInt(region.originalWidth);
+            out.writeInt(region.originalHeight);
+            out.writeInt(region.degrees);
+            out.writeBoolean(region.rotate);
+            out.writeInt(region.index);
+            int valueCount = region.names != null ? region.names.length : 0;
+            out.writeInt(valueCount);
+            for (int n = 0; n < valueCount; n++) {
+                out.writeString(region.names[n]);
+                int[] values = region.values[n];
+                out.writeInt(values.length);
+                for (int v : values) {
+                    out.writeInt(v);
+                }
+            }
+        }
+    }
+
+    @Override
+    public TextureAtlasData read(ContentInput in) {
+        TextureAtlasData data = new TextureAtlasData();
+        Array<TextureAtlasData.Page> pages = data.getPages();
+        int pageCount = in.readInt();
+        for (int i = 0; i < pageCount; i++) {
+            TextureAtlasData.Page page = new TextureAtlasData.Page();
+            page.name = in.readString();
+            page.width = in.readFloat();
+            page.height = in.readFloat();
+            page.useMipMaps = in.readBoolean();
+            page.format = Pixmap.Format.valueOf(in.readString());
+            page.minFilter = Texture.TextureFilter.valueOf(in.readString());
+            page.magFilter = Texture.TextureFilter.valueOf(in.readString());
+            page.uWrap = Texture.TextureWrap.valueOf(in.readString());
+            page.vWrap = Texture.TextureWrap.valueOf(in.readString());
+            page.pma = in.readBoolean();
+            pages.add(page);
+        }
+
+        Array<TextureAtlasData.Region> regions = data.getRegions();
+        int regionCount = in.readInt();
+        regions.ensureCapacity(regionCount);
+        for (int i = 0; i < regionCount; i++) {
+            TextureAtlasData.Region region = new TextureAtlasData.Region();
+            region.page = pages.get(in.readInt());
+            region.name = in.readString();
+            region.left = in.readInt();
+            region.top = in.readInt();
+            region.width = in.readInt();
+            region.height = in.readInt();
+            region.offsetX = in.readFloat();
+            region.offsetY = in.readFloat();
+            region.originalWidth = in.readInt();
+            region.originalHeight = in.readInt();
+            region.degrees = in.readInt();
+            region.rotate = in.readBoolean();
+            region.index = in.readInt();
+            int valueCount = in.readInt();
+            if (valueCount > 0) {
+                region.names = new String[valueCount];
+                region.values = new int[valueCount][];
+                for (int n = 0; n < valueCount; n++) {
+                    region.names[n] = in.readString();
+                    int[] values = new int[in.readInt()];
+                    for (int v = 0; v < values.length; v++) {
+                        values[v] = in.readInt();
+                    }
+                    region.values[n] = values;
+                }
+            }
+            regions.add(region);
+        }
+        return data;
+    }
+}
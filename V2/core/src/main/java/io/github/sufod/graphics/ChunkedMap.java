@@ -0,0 +1,121 @@
+package io.github.sufod.graphics;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.utils.Json;
+
+// Background map split into fixed-size chunk textures, streamed around a view rectangle.
+// Chunks near the view are queued on the AssetManager (decoded off-thread), only loaded
+// chunks inside the view are drawn, and chunks far from it are unloaded again.
+public class ChunkedMap {
+    // Chunks kept around the view, so scrolling finds them already loaded.
+    private static final int PRELOAD_MARGIN = 1;
+    // Chunks further than this from the view are unloaded.
+    private static final int UNLOAD_MARGIN = 2;
+
+    private final AssetManager assets;
+    private final MapIndex index;
+    // Asset path of each chunk, indexed by row * columns + column.
+    private final String[] paths;
+    // Whether this map holds an AssetManager reference to each chunk.
+    private final boolean[] requested;
+    // Texture of each requested chunk once the AssetManager has it, else null.
+    private final Texture[] textures;
+
+    public ChunkedMap(AssetManager assets, String indexPath) {
+        this(assets, new Json().fromJson(MapIndex.class, Gdx.files.internal(indexPath)));
+    }
+
+    public ChunkedMap(AssetManager assets, MapIndex index) {
+        this.assets = assets;
+        this.index = index;
+        paths = new String[index.columns * index.rows];
+        requested = new boolean[paths.length];
+        textures = new Texture[paths.length];
+        for (int row = 0; row < index.rows; row++) {
+            for (int column = 0; column < index.columns; column++) {
+                paths[row * index.columns + column] = index.directory + "/chunk_" + column + "_" + row + ".png";
+            }
+        }
+    }
+
+    public int getWidth() {
+        return index.width;
+    }
+
+    public int getHeight() {
+        return index.height;
+    }
+
+    // Requests the chunks around the view and drops the ones far from it.
+    public void update(float viewX, float viewY, float viewWidth, float viewHeight) {
+        int size = index.chunkSize;
+        int firstColumn = (int) Math.floor(viewX / size);
+        int lastColumn = (int) Math.floor((viewX + viewWidth) / size);
+        int firstRow = (int) Math.floor(viewY / size);
+        int lastRow = (int) Math.floor((viewY + viewHeight) / size);
+        for (int row = 0; row < index.rows; row++) {
+            for (int column = 0; column < index.columns; column++) {
+                int chunk = row * index.columns + column;
+                int distance = Math.max(
+                    Math.max(firstColumn - column, column - lastColumn),
+                    Math.max(firstRow - row, row - lastRow)
+                );
+                if (distance <= PRELOAD_MARGIN && !requested[chunk]) {
+                    requested[chunk] = true;
+                    assets.load(paths[chunk], Texture.class);
+                } else if (distance > UNLOAD_MARGIN && requested[chunk]) {
+                    release(chunk);
+                }
+            }
+        }
+    }
+
+    // Blocks until every requested chunk is loaded (e.g. before the first frame).
+    public void finishLoading() {
+        for (int chunk = 0; chunk < paths.length; chunk++) {
+            if (requested[chunk]) {
+                assets.finishLoadingAsset(paths[chunk]);
+            }
+        }
+    }
+
+    // Draws the loaded chunks that intersect the view; the batch must be begun.
+    public void draw(Batch batch, float viewX, float viewY, float viewWidth, float viewHeight) {
+        int size = index.chunkSize;
+        int firstColumn = Math.max(0, (int) Math.floor(viewX / size));
+        int lastColumn = Math.min(index.columns - 1, (int) Math.floor((viewX + viewWidth) / size));
+        int firstRow = Math.max(0, (int) Math.floor(viewY / size));
+        int lastRow = Math.min(index.rows - 1, (int) Math.floor((viewY + viewHeight) / size));
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                int chunk = row * index.columns + column;
+                Texture texture = textures[chunk];
+                if (texture == null && requested[chunk] && assets.isLoaded(paths[chunk], Texture.class)) {
+                    texture = assets.get(paths[chunk], Texture.class);
+                    textures[chunk] = texture;
+                }
+                if (texture != null) {
+                    batch.draw(texture, column * size, row * size);
+                }
+            }
+        }
+    }
+
+    // Releases every chunk this map requested.
+    public void dispose() {
+        for (int chunk = 0; chunk < paths.length; chunk++) {
+            if (requested[chunk]) {
+                release(chunk);
+            }
+        }
+    }
+
+    private void release(int chunk) {
+        requested[chunk] = false;
+        textures[chunk] = null;
+        assets.unload(paths[chunk]);
+    }
+}
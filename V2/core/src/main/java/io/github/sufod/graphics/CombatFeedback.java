@@ -0,0 +1,180 @@
+package io.github.sufod.graphics;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import io.github.sufod.sim.HitLog;
+
+// Hit sparks and floating damage numbers. Both live in fixed-capacity rings of primitive
+// arrays: spawning reuses the oldest slot when full, and since every entry has the same
+// lifetime, expired entries are always at the front of the ring. Numbers are drawn digit
+// by digit from the default font's glyph page, with no String or text layout per hit.
+public class CombatFeedback implements Disposable {
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final float SPARK_FRAME_DURATION = 0.06f;
+    private static final float NUMBER_LIFETIME = 0.8f;
+    // How far a number rises over its lifetime, in world units.
+    private static final float NUMBER_RISE = 40f;
+    private static final float DIGIT_SCALE = 1.5f;
+    private static final float NUMBER_R = 1f;
+    private static final float NUMBER_G = 0.25f;
+    private static final float NUMBER_B = 0.2f;
+
+    private final BitmapFont font = new BitmapFont();
+    private final TextureRegion[] digits = new TextureRegion[10];
+    private final float[] digitAdvance = new float[10];
+    private final int[] digitScratch = new int[10];
+    private final TextureRegion[] sparkFrames;
+    private final float sparkLifetime;
+
+    private final Ring sparks;
+    private final Ring numbers;
+    // Value shown by each number slot.
+    private final int[] numberValue;
+
+    public CombatFeedback(Array<? extends TextureRegion> sparkFrames) {
+        this(sparkFrames, DEFAULT_CAPACITY);
+    }
+
+    // sparkFrames may be empty: hits then only show numbers.
+    public CombatFeedback(Array<? extends TextureRegion> sparkFrames, int capacity) {
+        this.sparkFrames = new TextureRegion[sparkFrames.size];
+        for (int i = 0; i < sparkFrames.size; i++) {
+            this.sparkFrames[i] = sparkFrames.get(i);
+        }
+        sparkLifetime = sparkFrames.size * SPARK_FRAME_DURATION;
+        sparks = new Ring(capacity);
+        numbers = new Ring(capacity);
+        numberValue = new int[numbers.capacity];
+        TextureRegion page = font.getRegion();
+        for (int d = 0; d < 10; d++) {
+            BitmapFont.Glyph glyph = font.getData().getGlyph((char) ('0' + d));
+            digits[d] = new TextureRegion(page, glyph.srcX, glyph.srcY, glyph.width, glyph.height);
+            digitAdvance[d] = glyph.xadvance * DIGIT_SCALE;
+        }
+    }
+
+    // Spawns a spark and a number centred on (x, y).
+    public void spawn(float x, float y, int amount) {
+        if (sparkFrames.length > 0) {
+            sparks.add(x, y);
+        }
+        int slot = numbers.add(x, y);
+        numberValue[slot] = Math.max(0, amount);
+    }
+
+    // Spawns feedback for every hit of log, offset by (offsetX, offsetY) from the hit position.
+    public void spawn(HitLog log, float offsetX, float offsetY) {
+        for (int i = 0, n = log.size(); i < n; i++) {
+            spawn(log.getX(i) + offsetX, log.getY(i) + offsetY, log.getAmount(i));
+        }
+    }
+
+    public void update(float delta) {
+        sparks.update(delta, sparkLifetime);
+        numbers.update(delta, NUMBER_LIFETIME);
+    }
+
+    // Draws sparks, then numbers on top. Restores the batch colour.
+    public void draw(Batch batch) {
+        float previous = batch.getPackedColor();
+        Ring sparks = this.sparks;
+        for (int i = 0; i < sparks.size; i++) {
+            int slot = sparks.slot(i);
+            int frame = Math.min(sparkFrames.length - 1, (int) (sparks.age[slot] / SPARK_FRAME_DURATION));
+            TextureRegion region = sparkFrames[frame];
+            batch.draw(region, sparks.x[slot] - region.getRegionWidth() * 0.5f,
+                sparks.y[slot] - region.getRegionHeight() * 0.5f);
+        }
+
+        Ring numbers = this.numbers;
+        for (int i = 0; i < numbers.size; i++) {
+            int slot = numbers.slot(i);
+            float progress = numbers.age[slot] / NUMBER_LIFETIME;
+            batch.setColor(NUMBER_R, NUMBER_G, NUMBER_B, 1f - progress);
+            drawNumber(batch, numberValue[slot], numbers.x[slot], numbers.y[slot] + progress * NUMBER_RISE);
+        }
+        batch.setPackedColor(previous);
+    }
+
+    public int getSparkCount() {
+        return sparks.size;
+    }
+
+    public int getNumberCount() {
+        return numbers.size;
+    }
+
+    // Draws value centred horizontally on x, bottom at y.
+    private void drawNumber(Batch batch, int value, float x, float y) {
+        int count = 0;
+        do {
+            digitScratch[count++] = value % 10;
+            value /= 10;
+        } while (value > 0);
+        float width = 0f;
+        for (int i = 0; i < count; i++) {
+            width += digitAdvance[digitScratch[i]];
+        }
+        float cursor = x - width * 0.5f;
+        for (int i = count - 1; i >= 0; i--) {
+            int digit = digitScratch[i];
+            TextureRegion region = digits[digit];
+            batch.draw(region, cursor, y, region.getRegionWidth() * DIGIT_SCALE, region.getRegionHeight() * DIGIT_SCALE);
+            cursor += digitAdvance[digit];
+        }
+    }
+
+    @Override
+    public void dispose() {
+        font.dispose();
+    }
+
+    // Positions and ages of live entries, oldest first from start.
+    private static final class Ring {
+        final int capacity;
+        final float[] x;
+        final float[] y;
+        final float[] age;
+        int start;
+        int size;
+
+        Ring(int capacity) {
+            this.capacity = Math.max(1, capacity);
+            x = new float[this.capacity];
+            y = new float[this.capacity];
+            age = new float[this.capacity];
+        }
+
+        // Returns the slot used; the oldest entry is replaced when full.
+        int add(float entryX, float entryY) {
+            int slot;
+            if (size == capacity) {
+                slot = start;
+                start = (start + 1) % capacity;
+            } else {
+                slot = (start + size++) % capacity;
+            }
+            x[slot] = entryX;
+            y[slot] = entryY;
+            age[slot] = 0f;
+            return slot;
+        }
+
+        int slot(int i) {
+            return (start + i) % capacity;
+        }
+
+        void update(float delta, float lifetime) {
+            for (int i = 0; i < size; i++) {
+                age[slot(i)] += delta;
+            }
+            while (size > 0 && age[start] >= lifetime) {
+                start = (start + 1) % capacity;
+                size--;
+            }
+        }
+    }
+}
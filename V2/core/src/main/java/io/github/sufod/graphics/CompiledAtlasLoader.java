@@ -0,0 +1,69 @@
+package io.github.sufod.graphics;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.SynchronousAssetLoader;
+import com.badlogic.gdx.assets.loaders.TextureAtlasLoader;
+import com.badlogic.gdx.assets.loaders.TextureLoader;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData;
+import com.badlogic.gdx.utils.Array;
+import io.github.sufod.content.ContentDatabase;
+
+// Drop-in replacement for libGDX's TextureAtlasLoader that takes the atlas layout from the
+// compiled content database when it has it, and parses the .atlas text otherwise.
+// Page textures are loaded as dependencies exactly like TextureAtlasLoader does.
+public class CompiledAtlasLoader extends SynchronousAssetLoader<TextureAtlas, TextureAtlasLoader.TextureAtlasParameter> {
+    // Compiled content, or null to always parse the text.
+    private final ContentDatabase content;
+    private TextureAtlasData data;
+
+    public CompiledAtlasLoader(FileHandleResolver resolver, ContentDatabase content) {
+        super(resolver);
+        this.content = content;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Array<AssetDescriptor> getDependencies(String fileName, FileHandle file,
+                                                  TextureAtlasLoader.TextureAtlasParameter parameter) {
+        boolean flip = parameter != null && parameter.flip;
+        FileHandle imagesDir = file.parent();
+        if (content != null && content.contains(fileName, AtlasFormat.INSTANCE)) {
+            data = content.read(fileName, AtlasFormat.INSTANCE);
+            for (TextureAtlasData.Page page : data.getPages()) {
+                page.textureFile = imagesDir.child(page.name);
+            }
+            for (TextureAtlasData.Region region : data.getRegions()) {
+                region.flip = flip;
+            }
+        } else {
+            data = new TextureAtlasData(file, imagesDir, flip);
+        }
+
+        Array<AssetDescriptor> dependencies = new Array<>();
+        for (TextureAtlasData.Page page : data.getPages()) {
+            TextureLoader.TextureParameter params = new TextureLoader.TextureParameter();
+            params.format = page.format;
+            params.genMipMaps = page.useMipMaps;
+            params.minFilter = page.minFilter;
+            params.magFilter = page.magFilter;
+            dependencies.add(new AssetDescriptor<>(page.textureFile, Texture.class, params));
+        }
+        return dependencies;
+    }
+
+    @Override
+    public TextureAtlas load(AssetManager manager, String fileName, FileHandle file,
+                             TextureAtlasLoader.TextureAtlasParameter parameter) {
+        for (TextureAtlasData.Page page : data.getPages()) {
+            page.texture = manager.get(page.textureFile.path().replaceAll("\\\\", "/"), Texture.class);
+        }
+        TextureAtlas atlas = new TextureAtlas(data);
+        data = null;
+        return atlas;
+    }
+}
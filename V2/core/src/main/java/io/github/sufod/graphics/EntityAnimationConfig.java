@@ -3,8 +3,24 @@ package io.github.sufod.graphics;
 public class EntityAnimationConfig {
     // Path to the TextureAtlas file in assets.
     public String atlas;
+    // Directory the frames were packed from, relative to assets (e.g. "mobPixel/piou").
+    // The combined game atlas names its regions by that path.
+    public String source;
+    // Prepended to every animation prefix when looking up regions.
+    public String regionPrefix = "";
     // Optional animation groups.
     public DirectionalAnimations walk;
     public DirectionalAnimations idle;
     public DirectionalAnimations attack;
+
+    // Points this config at the combined atlas instead of its own one.
+    // Returns false (and changes nothing) when the config has no source directory.
+    public boolean useSharedAtlas(String sharedAtlas) {
+        if (source == null) {
+            return false;
+        }
+        atlas = sharedAtlas;
+        regionPrefix = source + "/";
+        return true;
+    }
 }
@@ -7,12 +7,22 @@ import io.github.sufod.entities.Direction;
 import java.util.Map;
 
 public class EntityAnimations {
-    // Keep atlas to dispose later with animations.
+    // Animation states of the lookup table.
+    public static final int WALK = 0;
+    public static final int IDLE = 1;
+    public static final int ATTACK = 2;
+    private static final int STATE_COUNT = 3;
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    // Atlas the regions come from; its lifetime is managed by AnimationCache.
     private final TextureAtlas atlas;
     // Directional animation sets by action.
     private final Map<Direction, Animation<TextureRegion>> walk;
     private final Map<Direction, Animation<TextureRegion>> idle;
     private final Map<Direction, Animation<TextureRegion>> attack;
+    // Animation to play per (state, direction, horizontal side), with every fallback
+    // already applied; see index().
+    private final Animation<TextureRegion>[] table;
 
     public EntityAnimations(
         TextureAtlas atlas,
@@ -24,6 +34,17 @@ public class EntityAnimations {
         this.walk = walk;
         this.idle = idle;
         this.attack = attack;
+        this.table = buildTable();
+    }
+
+    // Table slot for a state, a facing direction and the last horizontal sign (< 0 is left).
+    public static int index(int state, Direction direction, int lastHorizontalSign) {
+        return ((state * DIRECTIONS.length + direction.ordinal()) << 1) | (lastHorizontalSign < 0 ? 0 : 1);
+    }
+
+    // Animation to play, or null if the entity has none for that state at all.
+    public Animation<TextureRegion> get(int state, Direction direction, int lastHorizontalSign) {
+        return table[index(state, direction, lastHorizontalSign)];
     }
 
     public Animation<TextureRegion> getWalk(Direction dir) {
@@ -38,8 +59,40 @@ public class EntityAnimations {
         return attack.get(dir);
     }
 
-    // Dispose the atlas when the animations are no longer needed.
-    public void dispose() {
-        atlas.dispose();
+    // Longest attack animation, in seconds (0 if there is none).
+    public float getAttackDuration() {
+        float duration = 0f;
+        for (Animation<TextureRegion> animation : attack.values()) {
+            if (animation != null) {
+                duration = Math.max(duration, animation.getAnimationDuration());
+            }
+        }
+        return duration;
+    }
+
+    // Resolves the fallbacks once: attacks fall back to idle then walk, walking falls back
+    // to idle, and idle falls back to walk. Attack and idle use the closest diagonal.
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Animation<TextureRegion>[] buildTable() {
+        Animation<TextureRegion>[] result = (Animation<TextureRegion>[]) new Animation[STATE_COUNT * DIRECTIONS.length * 2];
+        for (Direction direction : DIRECTIONS) {
+            for (int sign = -1; sign <= 1; sign += 2) {
+                Direction diagonal = DirectionUtils.toClosestDiagonal(direction, sign);
+                Animation<TextureRegion> idleAnimation = firstNonNull(idle.get(diagonal), walk.get(direction));
+                Animation<TextureRegion> attackAnimation = firstNonNull(attack.get(diagonal), firstNonNull(idle.get(diagonal), walk.get(direction)));
+                result[index(IDLE, direction, sign)] = idleAnimation;
+                result[index(WALK, direction, sign)] = firstNonNull(walk.get(direction), idleAnimation);
+                result[index(ATTACK, direction, sign)] = attackAnimation;
+            }
+        }
+        return result;
+    }
+
+    private static Animation<TextureRegion> firstNonNull(Animation<TextureRegion> first, Animation<TextureRegion> second) {
+        return first != null ? first : second;
+    }
+
+    public TextureAtlas getAtlas() {
+        return atlas;
     }
 }
@@ -0,0 +1,13 @@
+package io.github.sufod.graphics;
+
+// Layout of a background sliced into chunks by the core:sliceMap task.
+public class MapIndex {
+    // Directory holding chunk_<column>_<row>.png, relative to assets.
+    public String directory;
+    // Full map size in pixels (world units).
+    public int width;
+    public int height;
+    public int chunkSize;
+    public int columns;
+    public int rows;
+}
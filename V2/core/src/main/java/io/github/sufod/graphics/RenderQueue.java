@@ -0,0 +1,172 @@
+package io.github.sufod.graphics;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import java.util.Arrays;
+
+// Sprites to draw this frame, sorted before they reach the batch.
+// Each sprite gets a 32-bit key, compared as unsigned:
+//   layer (4 bits) | inverted y (20 bits) | texture id (8 bits)
+// so layers draw in order, sprites further up the screen draw first (the lower one overlaps),
+// and sprites on the same row are grouped by texture. Ties keep insertion order.
+// Sorting is an LSD radix sort over the key bytes into preallocated arrays: no allocation
+// once the queue has grown to the frame's sprite count, and passes whose byte is the same
+// for every sprite (e.g. the texture byte with a single atlas) are skipped.
+public class RenderQueue {
+    public static final int LAYER_GROUND = 0;
+    public static final int LAYER_ENTITIES = 1;
+    public static final int LAYER_OVERLAY = 2;
+
+    private static final int LAYER_SHIFT = 28;
+    private static final int Y_SHIFT = 8;
+    private static final int Y_MAX = (1 << 20) - 1;
+    private static final int TEXTURE_MASK = 0xFF;
+    private static final int DEFAULT_CAPACITY = 256;
+
+    private TextureRegion[] regions;
+    private float[] x;
+    private float[] y;
+    private int[] keys;
+    private int[] order;
+    // Radix sort ping-pong buffers.
+    private int[] keyScratch;
+    private int[] orderScratch;
+    private final int[] counts = new int[256];
+    private int size;
+    private boolean sorted = true;
+
+    // Small ids per texture, assigned on first use; ids past 255 share key bits (only grouping suffers).
+    private final ObjectIntMap<Texture> textureIds = new ObjectIntMap<>();
+
+    public RenderQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public RenderQueue(int capacity) {
+        allocate(Math.max(1, capacity));
+    }
+
+    // Queues region drawn at its own size with its bottom-left corner at (x, y).
+    public void add(int layer, TextureRegion region, float x, float y) {
+        if (size == keys.length) {
+            grow(size * 2);
+        }
+        int i = size++;
+        regions[i] = region;
+        this.x[i] = x;
+        this.y[i] = y;
+        int row = (int) y;
+        row = row < 0 ? 0 : (row > Y_MAX ? Y_MAX : row);
+        keys[i] = (layer << LAYER_SHIFT) | ((Y_MAX - row) << Y_SHIFT) | textureId(region.getTexture());
+        order[i] = i;
+        sorted = false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Sorts the queued sprites by key; draw() calls it when needed.
+    public void sort() {
+        if (sorted) {
+            return;
+        }
+        int[] srcKeys = keys;
+        int[] srcOrder = order;
+        int[] dstKeys = keyScratch;
+        int[] dstOrder = orderScratch;
+        int[] counts = this.counts;
+        int n = size;
+        for (int shift = 0; shift < 32; shift += 8) {
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < n; i++) {
+                counts[(srcKeys[i] >>> shift) & 0xFF]++;
+            }
+            // Every key has the same byte here: the pass would not move anything.
+            if (counts[(srcKeys[0] >>> shift) & 0xFF] == n) {
+                continue;
+            }
+            int offset = 0;
+            for (int b = 0; b < 256; b++) {
+                int count = counts[b];
+                counts[b] = offset;
+                offset += count;
+            }
+            for (int i = 0; i < n; i++) {
+                int key = srcKeys[i];
+                int slot = counts[(key >>> shift) & 0xFF]++;
+                dstKeys[slot] = key;
+                dstOrder[slot] = srcOrder[i];
+            }
+            int[] swapKeys = srcKeys;
+            srcKeys = dstKeys;
+            dstKeys = swapKeys;
+            int[] swapOrder = srcOrder;
+            srcOrder = dstOrder;
+            dstOrder = swapOrder;
+        }
+        keys = srcKeys;
+        order = srcOrder;
+        keyScratch = dstKeys;
+        orderScratch = dstOrder;
+        sorted = true;
+    }
+
+    // Index (as passed to add, counting from 0) of the sprite drawn at position i after sort().
+    public int getSortedIndex(int i) {
+        return order[i];
+    }
+
+    // Sorts, draws every queued sprite in one pass and empties the queue.
+    public void draw(Batch batch) {
+        sort();
+        TextureRegion[] regions = this.regions;
+        float[] x = this.x;
+        float[] y = this.y;
+        int[] order = this.order;
+        for (int i = 0, n = size; i < n; i++) {
+            int sprite = order[i];
+            batch.draw(regions[sprite], x[sprite], y[sprite]);
+        }
+        clear();
+    }
+
+    public void clear() {
+        size = 0;
+        sorted = true;
+    }
+
+    private int textureId(Texture texture) {
+        if (texture == null) {
+            return 0;
+        }
+        int id = textureIds.get(texture, -1);
+        if (id == -1) {
+            id = textureIds.size & TEXTURE_MASK;
+            textureIds.put(texture, id);
+        }
+        return id;
+    }
+
+    private void allocate(int capacity) {
+        regions = new TextureRegion[capacity];
+        x = new float[capacity];
+        y = new float[capacity];
+        keys = new int[capacity];
+        order = new int[capacity];
+        keyScratch = new int[capacity];
+        orderScratch = new int[capacity];
+    }
+
+    private void grow(int capacity) {
+        regions = Arrays.copyOf(regions, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        keys = Arrays.copyOf(keys, capacity);
+        order = Arrays.copyOf(order, capacity);
+        keyScratch = new int[capacity];
+        orderScratch = new int[capacity];
+    }
+}
@@ -0,0 +1,13 @@
+package io.github.sufod.input;
+
+// Directional intent read by the simulation once per tick.
+// MovementInput backs it with the keyboard; tools can feed scripted input instead.
+public interface InputSource {
+    boolean isUp();
+
+    boolean isDown();
+
+    boolean isLeft();
+
+    boolean isRight();
+}
@@ -4,7 +4,7 @@ import com.badlogic.gdx.InputProcessor;
 import com.badlogic.gdx.utils.IntIntMap;
 import com.badlogic.gdx.utils.IntSet;
 
-public class MovementInput implements InputProcessor {
+public class MovementInput implements InputProcessor, InputSource {
     // Tracks keycodes that are currently held down.
     private final IntSet pressedKeys = new IntSet();
     // Maps keycodes to typed characters (layout-aware).
@@ -35,18 +35,22 @@ public class MovementInput implements InputProcessor {
         }
     }
 
+    @Override
     public boolean isUp() {
         return up;
     }
 
+    @Override
     public boolean isDown() {
         return down;
     }
 
+    @Override
     public boolean isLeft() {
         return left;
     }
 
+    @Override
     public boolean isRight() {
         return right;
     }
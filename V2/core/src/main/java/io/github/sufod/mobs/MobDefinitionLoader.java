@@ -0,0 +1,52 @@
+package io.github.sufod.mobs;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetLoaderParameters;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.AsynchronousAssetLoader;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import io.github.sufod.content.ContentDatabase;
+
+// AssetManager loader for a mob definition list (same format as MobRepository).
+// The JSON, or the compiled records when the content database has them, is read on
+// the AssetManager's loading thread.
+public class MobDefinitionLoader extends AsynchronousAssetLoader<MobDefinition[], MobDefinitionLoader.Parameters> {
+    private final MobRepository repository;
+    private MobDefinition[] definitions;
+
+    public MobDefinitionLoader(FileHandleResolver resolver) {
+        this(resolver, null);
+    }
+
+    public MobDefinitionLoader(FileHandleResolver resolver, ContentDatabase content) {
+        super(resolver);
+        this.repository = new MobRepository(content);
+    }
+
+    @Override
+    public void loadAsync(AssetManager manager, String fileName, FileHandle file, Parameters parameter) {
+        Array<MobDefinition> loaded = repository.load(file);
+        definitions = new MobDefinition[loaded.size];
+        for (int i = 0; i < loaded.size; i++) {
+            definitions[i] = loaded.get(i);
+        }
+    }
+
+    @Override
+    public MobDefinition[] loadSync(AssetManager manager, String fileName, FileHandle file, Parameters parameter) {
+        MobDefinition[] result = definitions;
+        definitions = null;
+        return result;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Array<AssetDescriptor> getDependencies(String fileName, FileHandle file, Parameters parameter) {
+        return null;
+    }
+
+    public static class Parameters extends AssetLoaderParameters<MobDefinition[]> {
+    }
+}
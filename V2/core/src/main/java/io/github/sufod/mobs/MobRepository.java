@@ -1,18 +1,40 @@
 package io.github.sufod.mobs;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Json;
+import io.github.sufod.content.ContentDatabase;
 
 public class MobRepository {
 
     private final Json json = new Json();
+    // Compiled content, or null to always parse the JSON.
+    private final ContentDatabase content;
+
+    public MobRepository() {
+        this(null);
+    }
+
+    public MobRepository(ContentDatabase content) {
+        this.content = content;
+    }
 
     public Array<MobDefinition> load(String path) {
+        return load(Gdx.files.internal(path));
+    }
+
+    // Reads the compiled records when the database has this file, else parses the JSON.
+    public Array<MobDefinition> load(FileHandle file) {
+        if (content != null && content.contains(file.path(), MobDefinitionFormat.INSTANCE)) {
+            Array<MobDefinition> definitions = new Array<>();
+            content.readAll(file.path(), MobDefinitionFormat.INSTANCE, definitions);
+            return definitions;
+        }
         return json.fromJson(
             Array.class,
             MobDefinition.class,
-            Gdx.files.internal(path)
+            file
         );
     }
 }
@@ -0,0 +1,28 @@
+package io.github.sufod.replay;
+
+import io.github.sufod.input.InputSource;
+
+// Gives the simulation the live input and records, tick by tick, exactly what it read.
+// Per tick: beginTick, clear enemies if asked, Simulation.update, then endTick with the checksum.
+public class InputRecorder extends RecordedInput {
+    private final InputSource live;
+    private final Recording recording;
+
+    public InputRecorder(InputSource live, Recording recording) {
+        this.live = live;
+        this.recording = recording;
+    }
+
+    // Latches the live input for the coming tick.
+    public void beginTick(boolean clearEnemies) {
+        bits = Recording.pack(live) | (clearEnemies ? Recording.CLEAR_ENEMIES : 0);
+    }
+
+    public void endTick(int checksum) {
+        recording.add(bits, checksum);
+    }
+
+    public Recording getRecording() {
+        return recording;
+    }
+}
@@ -0,0 +1,33 @@
+package io.github.sufod.replay;
+
+import io.github.sufod.input.InputSource;
+
+// Input held fixed for one simulation tick, as Recording input bits.
+public abstract class RecordedInput implements InputSource {
+    protected int bits;
+
+    // Whether the enemies are to be cleared before this tick.
+    public boolean isClearEnemies() {
+        return (bits & Recording.CLEAR_ENEMIES) != 0;
+    }
+
+    @Override
+    public boolean isUp() {
+        return (bits & Recording.UP) != 0;
+    }
+
+    @Override
+    public boolean isDown() {
+        return (bits & Recording.DOWN) != 0;
+    }
+
+    @Override
+    public boolean isLeft() {
+        return (bits & Recording.LEFT) != 0;
+    }
+
+    @Override
+    public boolean isRight() {
+        return (bits & Recording.RIGHT) != 0;
+    }
+}
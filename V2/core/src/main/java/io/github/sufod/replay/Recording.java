@@ -0,0 +1,154 @@
+package io.github.sufod.replay;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.ByteArray;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
+import io.github.sufod.input.InputSource;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+
+// A recorded run: what is needed to rebuild the same Simulation (seed, character, world size)
+// plus one input byte and one state checksum per simulation tick.
+//
+// File layout (big-endian): int magic, int version, long seed, UTF characterId,
+// float worldWidth, float worldHeight, int tickCount, int runCount,
+// runCount x (byte input, int ticks), then tickCount x int checksum.
+// Input rarely changes between ticks, so it is stored as runs.
+public class Recording {
+    // Input bits.
+    public static final int UP = 1;
+    public static final int DOWN = 2;
+    public static final int LEFT = 4;
+    public static final int RIGHT = 8;
+    // The K debug key: every enemy is removed before the tick runs.
+    public static final int CLEAR_ENEMIES = 16;
+
+    private static final int MAGIC = 0x53555250;
+    private static final int VERSION = 1;
+
+    public final long seed;
+    public final String characterId;
+    public final float worldWidth;
+    public final float worldHeight;
+    private final ByteArray inputs = new ByteArray();
+    private final IntArray checksums = new IntArray();
+
+    public Recording(long seed, String characterId, float worldWidth, float worldHeight) {
+        this.seed = seed;
+        this.characterId = characterId;
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+    }
+
+    // File for a command-line path: absolute paths as given, others relative to the working directory.
+    public static FileHandle file(String path) {
+        return new File(path).isAbsolute() ? Gdx.files.absolute(path) : Gdx.files.local(path);
+    }
+
+    // Input bits for the directions currently held on input.
+    public static int pack(InputSource input) {
+        int bits = 0;
+        if (input.isUp()) {
+            bits |= UP;
+        }
+        if (input.isDown()) {
+            bits |= DOWN;
+        }
+        if (input.isLeft()) {
+            bits |= LEFT;
+        }
+        if (input.isRight()) {
+            bits |= RIGHT;
+        }
+        return bits;
+    }
+
+    public void add(int input, int checksum) {
+        inputs.add((byte) input);
+        checksums.add(checksum);
+    }
+
+    public int size() {
+        return inputs.size;
+    }
+
+    public int getInput(int tick) {
+        return inputs.get(tick);
+    }
+
+    public int getChecksum(int tick) {
+        return checksums.get(tick);
+    }
+
+    public void write(FileHandle file) {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file.write(false)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(seed);
+            out.writeUTF(characterId);
+            out.writeFloat(worldWidth);
+            out.writeFloat(worldHeight);
+            out.writeInt(inputs.size);
+
+            int runs = 0;
+            for (int tick = 0; tick < inputs.size; tick++) {
+                if (tick == 0 || inputs.get(tick) != inputs.get(tick - 1)) {
+                    runs++;
+                }
+            }
+            out.writeInt(runs);
+            int start = 0;
+            for (int tick = 1; tick <= inputs.size; tick++) {
+                if (tick == inputs.size || inputs.get(tick) != inputs.get(start)) {
+                    out.writeByte(inputs.get(start));
+                    out.writeInt(tick - start);
+                    start = tick;
+                }
+            }
+
+            for (int tick = 0; tick < checksums.size; tick++) {
+                out.writeInt(checksums.get(tick));
+            }
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Error writing recording: " + file, e);
+        }
+    }
+
+    public static Recording read(FileHandle file) {
+        try (DataInputStream in = new DataInputStream(file.read(8192))) {
+            if (in.readInt() != MAGIC) {
+                throw new GdxRuntimeException("Not a recording: " + file);
+            }
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new GdxRuntimeException("Recording version " + version + ", expected " + VERSION + ": " + file);
+            }
+            Recording recording = new Recording(in.readLong(), in.readUTF(), in.readFloat(), in.readFloat());
+            int ticks = in.readInt();
+            recording.inputs.ensureCapacity(ticks);
+            recording.checksums.ensureCapacity(ticks);
+            int runs = in.readInt();
+            for (int run = 0; run < runs; run++) {
+                byte input = in.readByte();
+                int length = in.readInt();
+                for (int i = 0; i < length; i++) {
+                    recording.inputs.add(input);
+                }
+            }
+            if (recording.inputs.size != ticks) {
+                throw new GdxRuntimeException("Corrupt recording: " + file);
+            }
+            for (int tick = 0; tick < ticks; tick++) {
+                recording.checksums.add(in.readInt());
+            }
+            return recording;
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Error reading recording: " + file, e);
+        }
+    }
+}
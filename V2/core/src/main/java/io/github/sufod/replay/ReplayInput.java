@@ -0,0 +1,58 @@
+package io.github.sufod.replay;
+
+// Feeds a Recording back to the simulation and checks every tick's checksum against it.
+// Per tick: beginTick (false once the recording is over), clear enemies if asked,
+// Simulation.update, then endTick with the checksum.
+public class ReplayInput extends RecordedInput {
+    private final Recording recording;
+    private int tick = -1;
+    private int mismatches;
+    private int firstMismatchTick = -1;
+
+    public ReplayInput(Recording recording) {
+        this.recording = recording;
+    }
+
+    public boolean beginTick() {
+        if (tick + 1 >= recording.size()) {
+            return false;
+        }
+        tick++;
+        bits = recording.getInput(tick);
+        return true;
+    }
+
+    // Returns whether the state matches the recorded one.
+    public boolean endTick(int checksum) {
+        if (checksum == recording.getChecksum(tick)) {
+            return true;
+        }
+        mismatches++;
+        if (firstMismatchTick == -1) {
+            firstMismatchTick = tick;
+        }
+        return false;
+    }
+
+    public boolean isFinished() {
+        return tick + 1 >= recording.size();
+    }
+
+    // Ticks replayed so far.
+    public int getTicks() {
+        return tick + 1;
+    }
+
+    public int getMismatchCount() {
+        return mismatches;
+    }
+
+    // First tick whose checksum differed, or -1.
+    public int getFirstMismatchTick() {
+        return firstMismatchTick;
+    }
+
+    public Recording getRecording() {
+        return recording;
+    }
+}
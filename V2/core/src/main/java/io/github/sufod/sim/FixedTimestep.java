@@ -0,0 +1,41 @@
+package io.github.sufod.sim;
+
+// Accumulator that turns variable frame deltas into a whole number of fixed ticks.
+public class FixedTimestep {
+    private final float step;
+    private final int maxStepsPerFrame;
+    private float accumulator;
+
+    public FixedTimestep(float ticksPerSecond, int maxStepsPerFrame) {
+        if (ticksPerSecond <= 0f) {
+            throw new IllegalArgumentException("ticksPerSecond must be > 0: " + ticksPerSecond);
+        }
+        this.step = 1f / ticksPerSecond;
+        this.maxStepsPerFrame = Math.max(1, maxStepsPerFrame);
+    }
+
+    // Adds the frame time and returns how many ticks to run this frame.
+    // Time beyond maxStepsPerFrame ticks is dropped so a hitch can't snowball
+    // into ever longer frames (spiral of death).
+    public int advance(float frameDelta) {
+        accumulator += Math.max(0f, frameDelta);
+        int steps = (int) (accumulator / step);
+        if (steps > maxStepsPerFrame) {
+            steps = maxStepsPerFrame;
+            accumulator = accumulator % step;
+        } else {
+            accumulator -= steps * step;
+        }
+        return steps;
+    }
+
+    // Fixed tick length in seconds.
+    public float getStep() {
+        return step;
+    }
+
+    // How far the render frame sits between the previous and the current tick, in [0, 1).
+    public float getAlpha() {
+        return Math.min(accumulator / step, 1f);
+    }
+}
@@ -0,0 +1,153 @@
+package io.github.sufod.sim;
+
+import java.util.Arrays;
+
+// Shared pursuit field over a walkability grid: one BFS from the target's cell,
+// then a unit direction per cell towards it. Mobs sample their cell in O(1).
+// The field is only rebuilt when the target changes cell or the walls change.
+public class FlowField {
+    private static final int UNREACHABLE = Integer.MAX_VALUE;
+    private static final float DIAGONAL = 0.70710677f;
+    // Neighbour offsets, orthogonal first; the order also breaks ties.
+    private static final int[] NEIGHBOUR_X = {1, -1, 0, 0, 1, -1, 1, -1};
+    private static final int[] NEIGHBOUR_Y = {0, 0, 1, -1, 1, 1, -1, -1};
+
+    private final float cellSize;
+    private final int columns;
+    private final int rows;
+    // The grid is stored with a one-cell blocked border, so neighbours never need bounds checks.
+    private final int stride;
+    private final int[] neighbourOffset = new int[8];
+    private final boolean[] blocked;
+    // Steps from each cell to the target cell (4-neighbour BFS).
+    private final int[] cost;
+    private final float[] directionX;
+    private final float[] directionY;
+    private final int[] queue;
+
+    private int targetCell = -1;
+    private boolean dirty = true;
+
+    public FlowField(float worldWidth, float worldHeight, float cellSize) {
+        this.cellSize = Math.max(1f, cellSize);
+        this.columns = Math.max(1, (int) Math.ceil(worldWidth / this.cellSize));
+        this.rows = Math.max(1, (int) Math.ceil(worldHeight / this.cellSize));
+        this.stride = columns + 2;
+        int cells = stride * (rows + 2);
+        blocked = new boolean[cells];
+        cost = new int[cells];
+        directionX = new float[cells];
+        directionY = new float[cells];
+        queue = new int[cells];
+        for (int n = 0; n < 8; n++) {
+            neighbourOffset[n] = NEIGHBOUR_Y[n] * stride + NEIGHBOUR_X[n];
+        }
+        for (int column = 0; column < stride; column++) {
+            blocked[column] = true;
+            blocked[(rows + 1) * stride + column] = true;
+        }
+        for (int row = 0; row < rows + 2; row++) {
+            blocked[row * stride] = true;
+            blocked[row * stride + columns + 1] = true;
+        }
+    }
+
+    public void setBlocked(int column, int row, boolean value) {
+        int cell = (row + 1) * stride + column + 1;
+        if (blocked[cell] != value) {
+            blocked[cell] = value;
+            dirty = true;
+        }
+    }
+
+    // Rebuilds the field if the target moved to another cell. Returns whether it did.
+    public boolean update(float targetX, float targetY) {
+        int cell = cellOf(targetX, targetY);
+        if (cell == targetCell && !dirty) {
+            return false;
+        }
+        targetCell = cell;
+        dirty = false;
+        integrate(cell);
+        buildDirections();
+        return true;
+    }
+
+    // Cell index for a world position; positions outside the world use the border cells.
+    public int cellOf(float x, float y) {
+        int column = (int) Math.floor(x / cellSize);
+        int row = (int) Math.floor(y / cellSize);
+        column = column < 0 ? 0 : (column >= columns ? columns - 1 : column);
+        row = row < 0 ? 0 : (row >= rows ? rows - 1 : row);
+        return (row + 1) * stride + column + 1;
+    }
+
+    public int getTargetCell() {
+        return targetCell;
+    }
+
+    // Whether the cell has a direction (false for the target cell and unreachable cells).
+    public boolean hasDirection(int cell) {
+        return directionX[cell] != 0f || directionY[cell] != 0f;
+    }
+
+    public float getDirectionX(int cell) {
+        return directionX[cell];
+    }
+
+    public float getDirectionY(int cell) {
+        return directionY[cell];
+    }
+
+    private void integrate(int start) {
+        Arrays.fill(cost, UNREACHABLE);
+        if (blocked[start]) {
+            return;
+        }
+        int head = 0;
+        int tail = 0;
+        cost[start] = 0;
+        queue[tail++] = start;
+        while (head < tail) {
+            int cell = queue[head++];
+            int next = cost[cell] + 1;
+            for (int n = 0; n < 4; n++) {
+                int neighbour = cell + neighbourOffset[n];
+                if (!blocked[neighbour] && cost[neighbour] == UNREACHABLE) {
+                    cost[neighbour] = next;
+                    queue[tail++] = neighbour;
+                }
+            }
+        }
+    }
+
+    // Points each cell at its cheapest neighbour; diagonals may not cut wall corners.
+    private void buildDirections() {
+        for (int row = 1; row <= rows; row++) {
+            for (int cell = row * stride + 1, end = cell + columns; cell < end; cell++) {
+                directionX[cell] = 0f;
+                directionY[cell] = 0f;
+                int best = cost[cell];
+                if (best == UNREACHABLE || best == 0) {
+                    continue;
+                }
+                int bestN = -1;
+                for (int n = 0; n < 8; n++) {
+                    if (n >= 4 && (blocked[cell + NEIGHBOUR_X[n]] || blocked[cell + NEIGHBOUR_Y[n] * stride])) {
+                        continue;
+                    }
+                    int neighbourCost = cost[cell + neighbourOffset[n]];
+                    if (neighbourCost < best) {
+                        best = neighbourCost;
+                        bestN = n;
+                    }
+                }
+                if (bestN != -1) {
+                    float scale = bestN >= 4 ? DIAGONAL : 1f;
+                    directionX[cell] = NEIGHBOUR_X[bestN] * scale;
+                    directionY[cell] = NEIGHBOUR_Y[bestN] * scale;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.sufod.sim;
+
+// Damage dealt during the last ticks, for hit feedback: where it landed and how much.
+// Fixed-capacity ring: when full, a new hit replaces the oldest, so recording never allocates.
+public class HitLog {
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    private final float[] x;
+    private final float[] y;
+    private final int[] amount;
+    private int start;
+    private int size;
+
+    public HitLog() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public HitLog(int capacity) {
+        capacity = Math.max(1, capacity);
+        x = new float[capacity];
+        y = new float[capacity];
+        amount = new int[capacity];
+    }
+
+    // Records a hit at the target's position (x, y).
+    public void add(float x, float y, int amount) {
+        int capacity = this.x.length;
+        int slot;
+        if (size == capacity) {
+            slot = start;
+            start = (start + 1) % capacity;
+        } else {
+            slot = (start + size++) % capacity;
+        }
+        this.x[slot] = x;
+        this.y[slot] = y;
+        this.amount[slot] = amount;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Hit i, oldest first.
+    public float getX(int i) {
+        return x[(start + i) % x.length];
+    }
+
+    public float getY(int i) {
+        return y[(start + i) % y.length];
+    }
+
+    public int getAmount(int i) {
+        return amount[(start + i) % amount.length];
+    }
+
+    // Appends every hit to out, oldest first, and empties this log.
+    public void drainTo(HitLog out) {
+        for (int i = 0; i < size; i++) {
+            out.add(getX(i), getY(i), getAmount(i));
+        }
+        clear();
+    }
+
+    public void clear() {
+        start = 0;
+        size = 0;
+    }
+}
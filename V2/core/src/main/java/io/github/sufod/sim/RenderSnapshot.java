@@ -0,0 +1,88 @@
+package io.github.sufod.sim;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import io.github.sufod.debug.PhaseTimer;
+import java.util.Arrays;
+
+// Everything the render thread reads from one simulation state: the sprites to draw,
+// with the positions of the last two ticks, and the counts and timings shown by the HUD.
+// Filled on the simulation thread after a batch of ticks; once SimulationWorker publishes
+// it, nobody writes it until it becomes the back buffer again.
+public class RenderSnapshot {
+    private static final int DEFAULT_CAPACITY = 256;
+
+    // Sprite i shows frames[i], moving from (prevX[i], prevY[i]) to (x[i], y[i]) during the tick.
+    public TextureRegion[] frames;
+    public float[] x;
+    public float[] y;
+    public float[] prevX;
+    public float[] prevY;
+    private int size;
+
+    // Sprite index of the player (its frame may be null), or -1.
+    public int player = -1;
+    // Blend between the previous and current positions for the frame that draws this snapshot.
+    public float alpha;
+
+    public int entityCount;
+    public int bossCount;
+    public int mobCount;
+    public int mobCapacity;
+    // Damage dealt by the ticks of the batch.
+    public final HitLog hits = new HitLog();
+    // Time spent per PhaseTimer phase by the ticks of the batch (DRAW stays 0).
+    public final long[] phaseNanos = new long[PhaseTimer.COUNT];
+
+    public RenderSnapshot() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public RenderSnapshot(int capacity) {
+        capacity = Math.max(1, capacity);
+        frames = new TextureRegion[capacity];
+        x = new float[capacity];
+        y = new float[capacity];
+        prevX = new float[capacity];
+        prevY = new float[capacity];
+    }
+
+    // Appends a sprite and returns its index. frame may be null (nothing is drawn).
+    public int add(TextureRegion frame, float x, float y, float prevX, float prevY) {
+        if (size == frames.length) {
+            grow(size * 2);
+        }
+        int i = size++;
+        frames[i] = frame;
+        this.x[i] = x;
+        this.y[i] = y;
+        this.prevX[i] = prevX;
+        this.prevY[i] = prevY;
+        return i;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public float drawX(int i) {
+        return prevX[i] + (x[i] - prevX[i]) * alpha;
+    }
+
+    public float drawY(int i) {
+        return prevY[i] + (y[i] - prevY[i]) * alpha;
+    }
+
+    public void clear() {
+        size = 0;
+        player = -1;
+        hits.clear();
+    }
+
+    private void grow(int capacity) {
+        frames = Arrays.copyOf(frames, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        prevX = Arrays.copyOf(prevX, capacity);
+        prevY = Arrays.copyOf(prevY, capacity);
+    }
+}
@@ -0,0 +1,226 @@
+package io.github.sufod.sim;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.core.PooledEngine;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+import io.github.sufod.boss.BossDefinition;
+import io.github.sufod.characters.CharacterStats;
+import io.github.sufod.components.BossComponent;
+import io.github.sufod.components.HealthComponent;
+import io.github.sufod.components.Mappers;
+import io.github.sufod.components.PositionComponent;
+import io.github.sufod.entities.EntityFactory;
+import io.github.sufod.entities.MobStore;
+import io.github.sufod.input.InputSource;
+import io.github.sufod.mobs.MobDefinition;
+import io.github.sufod.systems.AttackSystem;
+import io.github.sufod.systems.CombatSystem;
+import io.github.sufod.systems.MobSystem;
+import io.github.sufod.systems.MovementSystem;
+import io.github.sufod.systems.PlayerInputSystem;
+import io.github.sufod.systems.PreviousPositionSystem;
+import io.github.sufod.systems.PruneSystem;
+import io.github.sufod.systems.WaveSystem;
+import io.github.sufod.waves.WaveManager;
+import io.github.sufod.waves.WaveScript;
+
+// The game state and the systems that advance it, built from data only:
+// no textures, audio or GL, so it also runs under the headless backend.
+// Render-side systems (animation) can be added to getEngine() by the caller.
+// All randomness comes from one stream seeded at construction: with the same seed, data
+// and per-tick input, two runs go through exactly the same states (see checksum()).
+public class Simulation {
+    // Pursuit grid resolution, in world units.
+    private static final float FLOW_CELL_SIZE = 32f;
+    // Mob lookup grid for attacks, in world units (about one attack range).
+    private static final float COMBAT_CELL_SIZE = 64f;
+    // Setup of a normal run (see createRun).
+    private static final float PLAYER_START_X = 200f;
+    private static final float PLAYER_START_Y = 120f;
+    private static final int SPAWN_POINT_COUNT = 24;
+    private static final float SPAWN_POINT_MARGIN = 40f;
+
+    private final PooledEngine engine;
+    private final MobStore mobs;
+    private final FlowField flowField;
+    private final HitLog hits = new HitLog();
+    private final WaveManager waveManager;
+    private final Entity player;
+    private final ImmutableArray<Entity> bosses;
+    private final long seed;
+    private final RandomXS128 random;
+
+    public Simulation(float worldWidth,
+                      float worldHeight,
+                      CharacterStats playerStats,
+                      float playerX,
+                      float playerY,
+                      InputSource input,
+                      Array<MobDefinition> mobDefs,
+                      Array<BossDefinition> bossDefs,
+                      WaveScript script,
+                      Array<Vector2> spawnPoints,
+                      long seed) {
+        this.seed = seed;
+        random = new RandomXS128(seed);
+        engine = new PooledEngine();
+        EntityFactory entityFactory = new EntityFactory(engine);
+        player = entityFactory.createPlayer(playerX, playerY, playerStats, input);
+        bosses = engine.getEntitiesFor(Family.all(BossComponent.class).get());
+
+        mobs = new MobStore();
+        flowField = new FlowField(worldWidth, worldHeight, FLOW_CELL_SIZE);
+        for (MobDefinition def : mobDefs) {
+            mobs.registerType(def.id, def.stats);
+        }
+        ObjectMap<String, BossDefinition> bossesById = new ObjectMap<>();
+        for (BossDefinition def : bossDefs) {
+            bossesById.put(def.id, def);
+        }
+
+        waveManager = new WaveManager(
+            script.waves,
+            script.loopStartIndex,
+            mobs,
+            engine,
+            entityFactory,
+            bossesById,
+            spawnPoints,
+            random
+        );
+        waveManager.getScheduler().setBounds(0f, 0f, worldWidth, worldHeight);
+        engine.addSystem(new PreviousPositionSystem());
+        engine.addSystem(new PlayerInputSystem());
+        engine.addSystem(new MovementSystem());
+        engine.addSystem(new MobSystem(mobs, flowField, hits));
+        engine.addSystem(new AttackSystem());
+        engine.addSystem(new CombatSystem(mobs, new SpatialGrid(worldWidth, worldHeight, COMBAT_CELL_SIZE), hits));
+        engine.addSystem(new PruneSystem(mobs));
+        engine.addSystem(new WaveSystem(waveManager));
+    }
+
+    // The game as played: default wave script, fixed player start and spawn points drawn from seed.
+    public static Simulation createRun(float worldWidth,
+                                       float worldHeight,
+                                       CharacterStats playerStats,
+                                       InputSource input,
+                                       Array<MobDefinition> mobDefs,
+                                       Array<BossDefinition> bossDefs,
+                                       long seed) {
+        Array<Vector2> spawnPoints = randomSpawnPoints(new RandomXS128(seed), worldWidth, worldHeight,
+            SPAWN_POINT_COUNT, SPAWN_POINT_MARGIN);
+        return new Simulation(
+            worldWidth,
+            worldHeight,
+            playerStats,
+            PLAYER_START_X,
+            PLAYER_START_Y,
+            input,
+            mobDefs,
+            bossDefs,
+            WaveScript.createDefault(),
+            spawnPoints,
+            seed
+        );
+    }
+
+    // Advances the game by one tick of step seconds.
+    public void update(float step) {
+        // Input, movement, mobs, attacks, combat, pruning then waves (see SystemPriority).
+        engine.update(step);
+    }
+
+    // Removes every mob and boss so the next wave starts.
+    public void clearEnemies() {
+        waveManager.cancelSpawning();
+        mobs.clear();
+        waveManager.clearBoss();
+    }
+
+    public PooledEngine getEngine() {
+        return engine;
+    }
+
+    public Entity getPlayer() {
+        return player;
+    }
+
+    public MobStore getMobs() {
+        return mobs;
+    }
+
+    // Walkability lives here: block cells to make mobs path around them.
+    public FlowField getFlowField() {
+        return flowField;
+    }
+
+    // Hits since the caller last drained it; nothing reads it otherwise, so old hits are overwritten.
+    public HitLog getHits() {
+        return hits;
+    }
+
+    public ImmutableArray<Entity> getBosses() {
+        return bosses;
+    }
+
+    public WaveManager getWaveManager() {
+        return waveManager;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    // Hash of the player, mob and boss state, used by replays to detect divergence.
+    // Linear in the mob count and allocation-free, so it can run every tick.
+    public int checksum() {
+        int hash = waveManager.getState().ordinal();
+        hash = 31 * hash + hashEntity(player);
+        hash = 31 * hash + bosses.size();
+        for (int i = 0; i < bosses.size(); i++) {
+            hash = 31 * hash + hashEntity(bosses.get(i));
+        }
+        int size = mobs.size();
+        hash = 31 * hash + size;
+        float[] x = mobs.x;
+        float[] y = mobs.y;
+        int[] health = mobs.health;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + Float.floatToIntBits(x[i]);
+            hash = 31 * hash + Float.floatToIntBits(y[i]);
+            hash = 31 * hash + health[i];
+        }
+        return hash;
+    }
+
+    private static int hashEntity(Entity entity) {
+        PositionComponent position = Mappers.position.get(entity);
+        HealthComponent health = Mappers.health.get(entity);
+        int hash = Float.floatToIntBits(position.position.x);
+        hash = 31 * hash + Float.floatToIntBits(position.position.y);
+        return 31 * hash + (health != null ? health.health : 0);
+    }
+
+    public void dispose() {
+        engine.removeAllSystems();
+        engine.removeAllEntities();
+    }
+
+    // count random points at least margin away from the edges of a width x height area.
+    public static Array<Vector2> randomSpawnPoints(RandomXS128 random, float width, float height, int count, float margin) {
+        Array<Vector2> points = new Array<>();
+        float maxX = Math.max(margin, width - margin);
+        float maxY = Math.max(margin, height - margin);
+        for (int i = 0; i < count; i++) {
+            float x = margin + random.nextFloat() * (maxX - margin);
+            float y = margin + random.nextFloat() * (maxY - margin);
+            points.add(new Vector2(x, y));
+        }
+        return points;
+    }
+}
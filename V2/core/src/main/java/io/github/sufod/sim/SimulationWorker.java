@@ -0,0 +1,125 @@
+package io.github.sufod.sim;
+
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Runs batches of simulation ticks on a background thread, each ending with a RenderSnapshot.
+// Two snapshots alternate: the render thread draws the front one while the worker fills the
+// back one, and they swap in await(). Between await() and the next submit() the worker is idle,
+// so that is the only window where the render thread may touch simulation state (input, cull bounds).
+public class SimulationWorker implements Disposable {
+    // What a batch runs; both methods are called on the worker thread.
+    public interface Steps {
+        // Runs one tick. Returning false ends the batch early.
+        boolean tick(float step);
+
+        // Writes the state the batch ended on.
+        void capture(RenderSnapshot snapshot);
+    }
+
+    private final Steps steps;
+    // Null runs batches on the caller's thread inside submit().
+    private final ExecutorService executor;
+    private final RenderSnapshot[] snapshots = {new RenderSnapshot(), new RenderSnapshot()};
+    private final Runnable batch = this::runBatch;
+    private int front;
+    private Future<?> pending;
+    // Set by a synchronous batch until await() publishes it.
+    private boolean completed;
+
+    // Batch inputs, written by submit() before the worker starts.
+    private int ticks;
+    private float step;
+    private float alpha;
+
+    public SimulationWorker(Steps steps) {
+        this(steps, Runtime.getRuntime().availableProcessors() > 1);
+    }
+
+    // Captures the current state as the first front snapshot.
+    public SimulationWorker(Steps steps, boolean threaded) {
+        this.steps = steps;
+        this.executor = threaded ? Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "simulation");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+        steps.capture(snapshots[front]);
+    }
+
+    // Starts ticks steps, then a capture into the back snapshot drawn with the given alpha.
+    public void submit(int ticks, float step, float alpha) {
+        if (pending != null || completed) {
+            throw new IllegalStateException("The previous batch has not been awaited");
+        }
+        this.ticks = ticks;
+        this.step = step;
+        this.alpha = alpha;
+        if (executor == null) {
+            runBatch();
+            completed = true;
+        } else {
+            pending = executor.submit(batch);
+        }
+    }
+
+    // Waits for the submitted batch, if any, and returns the newest snapshot.
+    public RenderSnapshot await() {
+        if (pending != null) {
+            try {
+                pending.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new GdxRuntimeException("Interrupted while waiting for the simulation", e);
+            } catch (ExecutionException e) {
+                throw new GdxRuntimeException("Simulation batch failed", e.getCause());
+            } finally {
+                pending = null;
+            }
+            front ^= 1;
+        } else if (completed) {
+            completed = false;
+            front ^= 1;
+        }
+        return snapshots[front];
+    }
+
+    public boolean isThreaded() {
+        return executor != null;
+    }
+
+    private void runBatch() {
+        for (int i = 0; i < ticks; i++) {
+            if (!steps.tick(step)) {
+                break;
+            }
+        }
+        RenderSnapshot back = snapshots[front ^ 1];
+        back.clear();
+        back.alpha = alpha;
+        steps.capture(back);
+    }
+
+    // Lets a running batch finish (its result is dropped) and stops the thread.
+    @Override
+    public void dispose() {
+        if (pending != null) {
+            try {
+                pending.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException ignored) {
+                // Already failed: nothing is left running.
+            }
+            pending = null;
+        }
+        completed = false;
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package io.github.sufod.sim;
+
+import com.badlogic.gdx.utils.IntArray;
+import java.util.Arrays;
+
+// Uniform grid over points (mob slots), rebuilt every tick with a counting sort:
+// build() buckets the positions, then queries only visit the cells a circle overlaps. The grid keeps
+// the position arrays it was built from, so they must not change until the next build().
+// Points outside the world are clamped into the border cells, so queries stay correct.
+public class SpatialGrid {
+    private final float inverseCellSize;
+    private final int columns;
+    private final int rows;
+    // Points of cell c are items[cellStart[c] .. cellStart[c + 1]), in increasing index order.
+    private final int[] cellStart;
+    private final int[] cellCursor;
+    private int[] items = new int[256];
+    private int[] pointCell = new int[256];
+    private float[] x;
+    private float[] y;
+    private int size;
+
+    public SpatialGrid(float worldWidth, float worldHeight, float cellSize) {
+        cellSize = Math.max(1f, cellSize);
+        this.inverseCellSize = 1f / cellSize;
+        this.columns = Math.max(1, (int) Math.ceil(worldWidth / cellSize));
+        this.rows = Math.max(1, (int) Math.ceil(worldHeight / cellSize));
+        cellStart = new int[columns * rows + 1];
+        cellCursor = new int[columns * rows];
+    }
+
+    // Indexes points [0, count) of the given position arrays.
+    public void build(float[] xs, float[] ys, int count) {
+        if (count > items.length) {
+            int capacity = Math.max(count, items.length * 2);
+            items = new int[capacity];
+            pointCell = new int[capacity];
+        }
+        float[] x = this.x = xs;
+        float[] y = this.y = ys;
+        int[] pointCell = this.pointCell;
+        int[] cellStart = this.cellStart;
+        size = count;
+        Arrays.fill(cellStart, 0);
+        for (int i = 0; i < count; i++) {
+            int cell = cellY(y[i]) * columns + cellX(x[i]);
+            pointCell[i] = cell;
+            cellStart[cell + 1]++;
+        }
+        for (int c = 1; c < cellStart.length; c++) {
+            cellStart[c] += cellStart[c - 1];
+        }
+        System.arraycopy(cellStart, 0, cellCursor, 0, cellCursor.length);
+        int[] items = this.items;
+        int[] cellCursor = this.cellCursor;
+        for (int i = 0; i < count; i++) {
+            items[cellCursor[pointCell[i]]++] = i;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Appends to out every point within radius of (centerX, centerY), cell by cell in row order.
+    public void query(float centerX, float centerY, float radius, IntArray out) {
+        float radius2 = radius * radius;
+        int cx0 = cellX(centerX - radius);
+        int cx1 = cellX(centerX + radius);
+        int cy0 = cellY(centerY - radius);
+        int cy1 = cellY(centerY + radius);
+        float[] x = this.x;
+        float[] y = this.y;
+        for (int cy = cy0; cy <= cy1; cy++) {
+            for (int cx = cx0; cx <= cx1; cx++) {
+                int cell = cy * columns + cx;
+                for (int i = cellStart[cell], end = cellStart[cell + 1]; i < end; i++) {
+                    int point = items[i];
+                    float dx = x[point] - centerX;
+                    float dy = y[point] - centerY;
+                    if (dx * dx + dy * dy <= radius2) {
+                        out.add(point);
+                    }
+                }
+            }
+        }
+    }
+
+    // Truncation sends small negative values to cell 0, which the clamp would do anyway.
+    private int cellX(float value) {
+        int cx = (int) (value * inverseCellSize);
+        return cx < 0 ? 0 : (cx >= columns ? columns - 1 : cx);
+    }
+
+    private int cellY(float value) {
+        int cy = (int) (value * inverseCellSize);
+        return cy < 0 ? 0 : (cy >= rows ? rows - 1 : cy);
+    }
+}
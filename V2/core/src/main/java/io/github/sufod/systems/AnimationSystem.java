@@ -0,0 +1,71 @@
+package io.github.sufod.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
+import io.github.sufod.components.AnimationComponent;
+import io.github.sufod.components.CombatComponent;
+import io.github.sufod.components.FacingComponent;
+import io.github.sufod.components.Mappers;
+import io.github.sufod.components.PositionComponent;
+import io.github.sufod.components.VelocityComponent;
+import io.github.sufod.entities.Direction;
+import io.github.sufod.graphics.EntityAnimations;
+
+// Advances animation timers and resolves the frame each entity shows this tick.
+// Render-side: it only reads simulation state (facing, velocity, attacks).
+// Entities whose position is outside the cull bounds keep their timers running
+// but get no frame, so they cost no lookup and are not drawn.
+public class AnimationSystem extends IteratingSystem {
+    // Live rectangle owned by the caller; null resolves every entity.
+    private final Rectangle cullBounds;
+
+    public AnimationSystem() {
+        this(null);
+    }
+
+    public AnimationSystem(Rectangle cullBounds) {
+        super(Family.all(AnimationComponent.class).get(), SystemPriority.ANIMATION);
+        this.cullBounds = cullBounds;
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        AnimationComponent animation = Mappers.animation.get(entity);
+        animation.stateTime += deltaTime;
+
+        PositionComponent position = Mappers.position.get(entity);
+        if (cullBounds != null && position != null && !cullBounds.contains(position.position)) {
+            animation.frame = null;
+            return;
+        }
+        VelocityComponent velocity = Mappers.velocity.get(entity);
+        boolean moving = velocity != null && velocity.isMoving();
+        animation.frame = resolveFrame(animation, Mappers.facing.get(entity), Mappers.combat.get(entity), moving);
+    }
+
+    // One table lookup; EntityAnimations has already resolved the fallbacks.
+    private TextureRegion resolveFrame(AnimationComponent animation, FacingComponent facing, CombatComponent combat,
+                                       boolean moving) {
+        EntityAnimations animations = animation.animations;
+        if (animations == null) {
+            return null;
+        }
+
+        // Use a safe default if direction hasn't been set yet.
+        Direction currentDirection = facing != null && facing.direction != null ? facing.direction : Direction.DOWN_RIGHT;
+        int lastHorizontalSign = facing != null ? facing.lastHorizontalSign : 1;
+
+        if (combat != null && combat.attacking) {
+            Animation<TextureRegion> attackAnimation = animations.get(EntityAnimations.ATTACK, currentDirection, lastHorizontalSign);
+            return attackAnimation != null ? attackAnimation.getKeyFrame(combat.attackTime, false) : null;
+        }
+
+        int state = moving ? EntityAnimations.WALK : EntityAnimations.IDLE;
+        Animation<TextureRegion> stateAnimation = animations.get(state, currentDirection, lastHorizontalSign);
+        return stateAnimation != null ? stateAnimation.getKeyFrame(animation.stateTime, true) : null;
+    }
+}
@@ -0,0 +1,48 @@
+package io.github.sufod.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import io.github.sufod.components.CombatComponent;
+import io.github.sufod.components.Mappers;
+
+// Ticks attack cooldowns, starts attacks and ends them after their duration.
+public class AttackSystem extends IteratingSystem {
+
+    public AttackSystem() {
+        super(Family.all(CombatComponent.class).get(), SystemPriority.ATTACK);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        CombatComponent combat = Mappers.combat.get(entity);
+        combat.timeSinceLastAttack += deltaTime;
+        if (combat.attacking) {
+            combat.attackTime += deltaTime;
+            if (combat.attackTime >= combat.attackDuration) {
+                combat.attacking = false;
+            }
+        }
+    }
+
+    // Starts an attack if the entity's cooldown allows it.
+    public boolean attack(Entity entity) {
+        CombatComponent combat = Mappers.combat.get(entity);
+        if (combat == null || !combat.canAttack()) {
+            return false;
+        }
+        // Damage is dealt by CombatSystem, which decides when to attack.
+        combat.timeSinceLastAttack = 0f;
+        combat.attacking = true;
+        combat.attackTime = 0f;
+        return true;
+    }
+
+    public void stopAttack(Entity entity) {
+        CombatComponent combat = Mappers.combat.get(entity);
+        if (combat != null) {
+            combat.attacking = false;
+            combat.attackTime = 0f;
+        }
+    }
+}
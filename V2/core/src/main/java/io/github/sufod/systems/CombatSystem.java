@@ -0,0 +1,183 @@
+package io.github.sufod.systems;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import io.github.sufod.components.BossComponent;
+import io.github.sufod.components.CombatComponent;
+import io.github.sufod.components.FacingComponent;
+import io.github.sufod.components.HealthComponent;
+import io.github.sufod.components.Mappers;
+import io.github.sufod.components.PlayerComponent;
+import io.github.sufod.components.PositionComponent;
+import io.github.sufod.entities.Direction;
+import io.github.sufod.entities.MobStore;
+import io.github.sufod.sim.HitLog;
+import io.github.sufod.sim.SpatialGrid;
+
+// Resolves the player's attacks. When the cooldown allows it (see AttackSystem.attack), the player
+// auto-attacks the mobs and bosses within attackRange inside an arc around its facing direction.
+// With several attackers ready in the same tick, mobs are found through a SpatialGrid built once,
+// so the cost follows the mobs near the attackers, not mobs x attackers. Building the grid costs
+// about as much as five linear scans of the mob arrays (see CombatBenchmark), so fewer attackers
+// just scan. Hits are gathered for every attacker first, then applied in one pass; dead targets
+// are removed by PruneSystem.
+public class CombatSystem extends EntitySystem {
+    // Used when a character does not define an attackRange.
+    private static final float DEFAULT_ATTACK_RANGE = 80f;
+    // Cosine of half the arc (120 degrees wide).
+    private static final float ARC_COS = 0.5f;
+    // Ready attackers from which the grid is cheaper than scanning once per attacker.
+    private static final int GRID_MIN_ATTACKERS = 5;
+
+    private final MobStore mobs;
+    private final SpatialGrid grid;
+    // Receives every hit dealt; may be null.
+    private final HitLog hits;
+    private ImmutableArray<Entity> attackers;
+    private ImmutableArray<Entity> bosses;
+    private AttackSystem attackSystem;
+
+    private final Array<Entity> ready = new Array<>();
+    private final IntArray candidates = new IntArray();
+    // Hits buffered during the tick: mob slot or boss entity, and the damage dealt to it.
+    private final IntArray mobTargets = new IntArray();
+    private final IntArray mobDamage = new IntArray();
+    private final Array<Entity> entityTargets = new Array<>();
+    private final IntArray entityDamage = new IntArray();
+
+    public CombatSystem(MobStore mobs, SpatialGrid grid, HitLog hits) {
+        super(SystemPriority.COMBAT);
+        this.mobs = mobs;
+        this.grid = grid;
+        this.hits = hits;
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        attackers = engine.getEntitiesFor(
+            Family.all(PlayerComponent.class, CombatComponent.class, PositionComponent.class).get());
+        bosses = engine.getEntitiesFor(
+            Family.all(BossComponent.class, PositionComponent.class, HealthComponent.class).get());
+        attackSystem = engine.getSystem(AttackSystem.class);
+    }
+
+    @Override
+    public void removedFromEngine(Engine engine) {
+        attackers = null;
+        bosses = null;
+        attackSystem = null;
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        for (int a = 0; a < attackers.size(); a++) {
+            Entity attacker = attackers.get(a);
+            if (Mappers.combat.get(attacker).canAttack()) {
+                ready.add(attacker);
+            }
+        }
+        if (ready.size == 0) {
+            return;
+        }
+        boolean useGrid = ready.size >= GRID_MIN_ATTACKERS;
+        if (useGrid) {
+            grid.build(mobs.x, mobs.y, mobs.size());
+        }
+        for (int a = 0; a < ready.size; a++) {
+            Entity attacker = ready.get(a);
+            gatherHits(attacker, Mappers.combat.get(attacker), useGrid);
+        }
+        ready.clear();
+        applyHits();
+    }
+
+    // Buffers the hits of one attack and starts it, if anything is in reach.
+    private void gatherHits(Entity attacker, CombatComponent combat, boolean useGrid) {
+        Vector2 origin = Mappers.position.get(attacker).position;
+        FacingComponent facing = Mappers.facing.get(attacker);
+        Direction direction = facing != null && facing.direction != null ? facing.direction : Direction.DOWN_RIGHT;
+        float range = combat.attackRange > 0f ? combat.attackRange : DEFAULT_ATTACK_RANGE;
+        int damage = combat.attackDamage;
+        int before = mobTargets.size + entityTargets.size;
+
+        candidates.clear();
+        float[] xs = mobs.x;
+        float[] ys = mobs.y;
+        float range2 = range * range;
+        if (useGrid) {
+            grid.query(origin.x, origin.y, range, candidates);
+        } else {
+            for (int i = 0, n = mobs.size(); i < n; i++) {
+                float dx = xs[i] - origin.x;
+                float dy = ys[i] - origin.y;
+                if (dx * dx + dy * dy <= range2) {
+                    candidates.add(i);
+                }
+            }
+        }
+        for (int i = 0; i < candidates.size; i++) {
+            int mob = candidates.get(i);
+            if (!mobs.isDead(mob) && inArc(xs[mob] - origin.x, ys[mob] - origin.y, direction)) {
+                mobTargets.add(mob);
+                mobDamage.add(damage);
+            }
+        }
+
+        for (int i = 0; i < bosses.size(); i++) {
+            Entity boss = bosses.get(i);
+            if (Mappers.health.get(boss).isDead()) {
+                continue;
+            }
+            Vector2 position = Mappers.position.get(boss).position;
+            float dx = position.x - origin.x;
+            float dy = position.y - origin.y;
+            if (dx * dx + dy * dy <= range2 && inArc(dx, dy, direction)) {
+                entityTargets.add(boss);
+                entityDamage.add(damage);
+            }
+        }
+
+        if (mobTargets.size + entityTargets.size > before && attackSystem != null) {
+            attackSystem.attack(attacker);
+        }
+    }
+
+    // Whether the offset (dx, dy) lies within the arc around direction (the origin itself counts).
+    private static boolean inArc(float dx, float dy, Direction direction) {
+        float dot = dx * direction.x + dy * direction.y;
+        if (dot < 0f) {
+            return dx == 0f && dy == 0f;
+        }
+        return dot * dot >= ARC_COS * ARC_COS * (dx * dx + dy * dy);
+    }
+
+    private void applyHits() {
+        for (int i = 0; i < mobTargets.size; i++) {
+            int mob = mobTargets.get(i);
+            int damage = mobDamage.get(i);
+            mobs.takeDamage(mob, damage);
+            if (hits != null) {
+                hits.add(mobs.x[mob], mobs.y[mob], damage);
+            }
+        }
+        for (int i = 0; i < entityTargets.size; i++) {
+            Entity target = entityTargets.get(i);
+            int damage = entityDamage.get(i);
+            Mappers.health.get(target).takeDamage(damage);
+            if (hits != null) {
+                Vector2 position = Mappers.position.get(target).position;
+                hits.add(position.x, position.y, damage);
+            }
+        }
+        mobTargets.clear();
+        mobDamage.clear();
+        entityTargets.clear();
+        entityDamage.clear();
+    }
+}
@@ -0,0 +1,154 @@
+package io.github.sufod.systems;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import io.github.sufod.components.HealthComponent;
+import io.github.sufod.components.Mappers;
+import io.github.sufod.components.PlayerComponent;
+import io.github.sufod.components.PositionComponent;
+import io.github.sufod.entities.MobStore;
+import io.github.sufod.sim.FlowField;
+import io.github.sufod.sim.HitLog;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Advances the horde mobs. Mobs live in the MobStore arrays, not as entities,
+// so this system walks the store linearly instead of iterating a family.
+// The store is split into fixed-size chunks updated on a fork-join pool. Each chunk
+// only writes its own mobs and records hits in its own buffer; the buffers are then
+// applied in chunk order, so the result does not depend on the thread count.
+// Pursuit uses one shared FlowField towards the player, rebuilt before the chunks run.
+public class MobSystem extends EntitySystem {
+    // Fixed so the chunking, and therefore the hit order, never depends on the core count.
+    private static final int CHUNK_SIZE = 512;
+
+    private final MobStore mobs;
+    private final FlowField flowField;
+    // Receives the hits on the player; may be null.
+    private final HitLog hits;
+    private final ForkJoinPool pool;
+    private final Array<ChunkTask> chunks = new Array<>();
+    private final UpdateTask updateTask = new UpdateTask();
+    private ImmutableArray<Entity> players;
+
+    // Tick inputs shared by the chunk tasks (read-only while they run).
+    private float delta;
+    private boolean hasTarget;
+    private float targetX;
+    private float targetY;
+
+    public MobSystem(MobStore mobs, FlowField flowField) {
+        this(mobs, flowField, null, Runtime.getRuntime().availableProcessors());
+    }
+
+    public MobSystem(MobStore mobs, FlowField flowField, HitLog hits) {
+        this(mobs, flowField, hits, Runtime.getRuntime().availableProcessors());
+    }
+
+    // flowField may be null: mobs then head straight for the player.
+    public MobSystem(MobStore mobs, FlowField flowField, HitLog hits, int threads) {
+        super(SystemPriority.MOBS);
+        this.mobs = mobs;
+        this.flowField = flowField;
+        this.hits = hits;
+        this.pool = new ForkJoinPool(Math.max(1, threads));
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        players = engine.getEntitiesFor(Family.all(PlayerComponent.class, PositionComponent.class, HealthComponent.class).get());
+    }
+
+    @Override
+    public void removedFromEngine(Engine engine) {
+        players = null;
+        pool.shutdown();
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        mobs.savePreviousPositions();
+        Entity player = players != null && players.size() > 0 ? players.get(0) : null;
+        delta = deltaTime;
+        hasTarget = player != null;
+        if (hasTarget) {
+            PositionComponent position = Mappers.position.get(player);
+            targetX = position.position.x;
+            targetY = position.position.y;
+            if (flowField != null) {
+                flowField.update(targetX, targetY);
+            }
+        }
+
+        int size = mobs.size();
+        int chunkCount = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        while (chunks.size < chunkCount) {
+            chunks.add(new ChunkTask());
+        }
+        for (int c = 0; c < chunkCount; c++) {
+            ChunkTask chunk = chunks.get(c);
+            chunk.start = c * CHUNK_SIZE;
+            chunk.end = Math.min(size, chunk.start + CHUNK_SIZE);
+            chunk.attacks.clear();
+        }
+        if (chunkCount == 1) {
+            chunks.get(0).compute();
+        } else if (chunkCount > 1) {
+            updateTask.chunkCount = chunkCount;
+            updateTask.reinitialize();
+            pool.invoke(updateTask);
+        }
+
+        if (player != null) {
+            HealthComponent health = Mappers.health.get(player);
+            for (int c = 0; c < chunkCount; c++) {
+                IntArray attacks = chunks.get(c).attacks;
+                for (int i = 0; i < attacks.size; i++) {
+                    int mob = attacks.get(i);
+                    int damage = mobs.getTypeStats(mobs.typeIndex[mob]).attackDamage;
+                    health.takeDamage(damage);
+                    if (hits != null) {
+                        hits.add(targetX, targetY, damage);
+                    }
+                }
+            }
+        }
+    }
+
+    // Forks every chunk and waits for all of them. Tasks are never serialized.
+    @SuppressWarnings("serial")
+    private class UpdateTask extends RecursiveAction {
+        int chunkCount;
+
+        @Override
+        protected void compute() {
+            for (int c = 0; c < chunkCount; c++) {
+                chunks.get(c).reinitialize();
+            }
+            for (int c = 1; c < chunkCount; c++) {
+                chunks.get(c).fork();
+            }
+            chunks.get(0).compute();
+            for (int c = chunkCount - 1; c >= 1; c--) {
+                chunks.get(c).join();
+            }
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private class ChunkTask extends RecursiveAction {
+        int start;
+        int end;
+        final IntArray attacks = new IntArray();
+
+        @Override
+        protected void compute() {
+            mobs.update(start, end, delta, hasTarget, targetX, targetY, flowField, attacks);
+        }
+    }
+}
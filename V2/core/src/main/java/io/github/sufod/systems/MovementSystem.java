@@ -0,0 +1,25 @@
+package io.github.sufod.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.math.Vector2;
+import io.github.sufod.components.Mappers;
+import io.github.sufod.components.PositionComponent;
+import io.github.sufod.components.VelocityComponent;
+
+// Integrates velocity into position for every moving entity.
+public class MovementSystem extends IteratingSystem {
+
+    public MovementSystem() {
+        super(Family.all(PositionComponent.class, VelocityComponent.class).get(), SystemPriority.MOVEMENT);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        Vector2 position = Mappers.position.get(entity).position;
+        VelocityComponent velocity = Mappers.velocity.get(entity);
+        position.x += velocity.velocity.x * velocity.speed * deltaTime;
+        position.y += velocity.velocity.y * velocity.speed * deltaTime;
+    }
+}
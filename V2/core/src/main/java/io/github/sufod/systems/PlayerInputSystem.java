@@ -0,0 +1,66 @@
+package io.github.sufod.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.math.Vector2;
+import io.github.sufod.components.FacingComponent;
+import io.github.sufod.components.Mappers;
+import io.github.sufod.components.PlayerComponent;
+import io.github.sufod.components.VelocityComponent;
+import io.github.sufod.entities.Direction;
+import io.github.sufod.input.InputSource;
+
+// Turns the player's movement input into a velocity and a facing direction.
+public class PlayerInputSystem extends IteratingSystem {
+
+    public PlayerInputSystem() {
+        super(Family.all(PlayerComponent.class, VelocityComponent.class, FacingComponent.class).get(),
+            SystemPriority.INPUT);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        InputSource input = Mappers.player.get(entity).input;
+        Vector2 velocity = Mappers.velocity.get(entity).velocity;
+        FacingComponent facing = Mappers.facing.get(entity);
+
+        float x = 0;
+        float y = 0;
+
+        if (input != null) {
+            if (input.isUp()) y += 1; // Haut
+            if (input.isDown()) y -= 1; // Bas
+            if (input.isLeft()) x -= 1; // Gauche
+            if (input.isRight()) x += 1; // Droite
+        }
+
+        // Store horizontal intent for diagonal fallback in idle/attack.
+        if (x < 0) {
+            facing.lastHorizontalSign = -1;
+        } else if (x > 0) {
+            facing.lastHorizontalSign = 1;
+        }
+
+        velocity.set(x, y);
+
+        if (velocity.len2() > 0) {
+            velocity.nor();
+        }
+
+        updateDirection(facing, x, y);
+    }
+
+    private void updateDirection(FacingComponent facing, float x, float y) {
+        if (x == 0 && y == 0) return;
+
+        if (x > 0 && y > 0) facing.direction = Direction.UP_RIGHT;
+        else if (x > 0 && y < 0) facing.direction = Direction.DOWN_RIGHT;
+        else if (x < 0 && y > 0) facing.direction = Direction.UP_LEFT;
+        else if (x < 0 && y < 0) facing.direction = Direction.DOWN_LEFT;
+        else if (x > 0) facing.direction = Direction.RIGHT;
+        else if (x < 0) facing.direction = Direction.LEFT;
+        else if (y > 0) facing.direction = Direction.UP;
+        else facing.direction = Direction.DOWN;
+    }
+}
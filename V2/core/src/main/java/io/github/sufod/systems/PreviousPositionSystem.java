@@ -0,0 +1,21 @@
+package io.github.sufod.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import io.github.sufod.components.Mappers;
+import io.github.sufod.components.PositionComponent;
+
+// Records where each entity was before this tick moves it, for render interpolation.
+public class PreviousPositionSystem extends IteratingSystem {
+
+    public PreviousPositionSystem() {
+        super(Family.all(PositionComponent.class).get(), SystemPriority.PREVIOUS_POSITION);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        PositionComponent position = Mappers.position.get(entity);
+        position.previous.set(position.position);
+    }
+}
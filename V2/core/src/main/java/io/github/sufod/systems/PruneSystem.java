@@ -0,0 +1,32 @@
+package io.github.sufod.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import io.github.sufod.components.HealthComponent;
+import io.github.sufod.components.Mappers;
+import io.github.sufod.components.PlayerComponent;
+import io.github.sufod.entities.MobStore;
+
+// Removes dead enemies: dead entities leave the engine, dead mobs leave the store.
+public class PruneSystem extends IteratingSystem {
+    private final MobStore mobs;
+
+    public PruneSystem(MobStore mobs) {
+        super(Family.all(HealthComponent.class).exclude(PlayerComponent.class).get(), SystemPriority.PRUNE);
+        this.mobs = mobs;
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        mobs.removeDead();
+        super.update(deltaTime);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        if (Mappers.health.get(entity).isDead()) {
+            getEngine().removeEntity(entity);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package io.github.sufod.systems;
+
+// Update order of the gameplay systems (lower runs first).
+public final class SystemPriority {
+    public static final int PREVIOUS_POSITION = -10;
+    public static final int INPUT = 0;
+    public static final int MOVEMENT = 10;
+    public static final int MOBS = 20;
+    public static final int ATTACK = 30;
+    public static final int COMBAT = 35;
+    public static final int ANIMATION = 40;
+    public static final int PRUNE = 50;
+    public static final int WAVES = 60;
+
+    private SystemPriority() {
+    }
+}
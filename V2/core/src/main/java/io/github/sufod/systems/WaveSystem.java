@@ -0,0 +1,19 @@
+package io.github.sufod.systems;
+
+import com.badlogic.ashley.core.EntitySystem;
+import io.github.sufod.waves.WaveManager;
+
+// Runs the wave state machine once dead enemies have been pruned.
+public class WaveSystem extends EntitySystem {
+    private final WaveManager waveManager;
+
+    public WaveSystem(WaveManager waveManager) {
+        super(SystemPriority.WAVES);
+        this.waveManager = waveManager;
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        waveManager.update(deltaTime);
+    }
+}
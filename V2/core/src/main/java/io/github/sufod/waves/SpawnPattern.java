@@ -0,0 +1,11 @@
+package io.github.sufod.waves;
+
+// Where and how fast a wave's mobs appear; see SpawnScheduler.
+public enum SpawnPattern {
+    // At random spawn points, as fast as the spawn budget allows.
+    BURST,
+    // At random spawn points, WaveConfig.spawnRate mobs per second.
+    TRICKLE,
+    // Evenly spaced on a circle of WaveConfig.ringRadius around the player.
+    RING
+}
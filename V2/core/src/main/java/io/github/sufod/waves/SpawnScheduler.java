@@ -0,0 +1,143 @@
+package io.github.sufod.waves;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import io.github.sufod.entities.MobStore;
+
+// Spreads a mob wave over several ticks so a large wave never spawns in a single frame.
+// Each tick spawns at most spawnsPerTick mobs, optionally also stopping once a time budget
+// is used up, and TRICKLE waves are further limited to their spawn rate.
+// The time budget depends on the machine, so it is off by default: with the count budget
+// alone, the same wave always spawns over the same ticks.
+public class SpawnScheduler {
+    public static final int DEFAULT_SPAWNS_PER_TICK = 128;
+    // The clock is only read every few spawns; a spawn is much cheaper than System.nanoTime.
+    private static final int CLOCK_CHECK_INTERVAL = 32;
+
+    private final MobStore mobs;
+    private final Array<Vector2> spawnPoints;
+    private final RandomXS128 random;
+    private final Vector2 spawn = new Vector2();
+
+    // <= 0 means no limit.
+    private int spawnsPerTick = DEFAULT_SPAWNS_PER_TICK;
+    // 0 means no time budget.
+    private long budgetNanos;
+
+    // Area RING positions are clamped to; unbounded until setBounds is called.
+    private boolean bounded;
+    private float minX;
+    private float minY;
+    private float maxX;
+    private float maxY;
+
+    private WaveConfig wave;
+    private int spawned;
+    private float trickleCredit;
+    private float ringAngle;
+
+    // Every random choice comes from random, so a seeded stream spawns the same waves every run.
+    public SpawnScheduler(MobStore mobs, Array<Vector2> spawnPoints, RandomXS128 random) {
+        this.mobs = mobs;
+        this.spawnPoints = spawnPoints;
+        this.random = random;
+    }
+
+    // spawnsPerTick <= 0 removes the count limit, budgetMicros <= 0 the time limit.
+    public void setBudget(int spawnsPerTick, float budgetMicros) {
+        this.spawnsPerTick = spawnsPerTick;
+        this.budgetNanos = budgetMicros > 0f ? (long) (budgetMicros * 1000f) : 0L;
+    }
+
+    public void setBounds(float x, float y, float width, float height) {
+        bounded = true;
+        minX = x;
+        minY = y;
+        maxX = x + width;
+        maxY = y + height;
+    }
+
+    // Starts spawning a mob wave; any wave still in progress is dropped.
+    public void begin(WaveConfig wave) {
+        this.wave = wave;
+        spawned = 0;
+        // The first trickled mob appears straight away.
+        trickleCredit = 1f;
+        ringAngle = random.nextFloat() * MathUtils.PI2;
+    }
+
+    // Drops the wave in progress; its remaining mobs never spawn.
+    public void cancel() {
+        wave = null;
+    }
+
+    public boolean isSpawning() {
+        return wave != null;
+    }
+
+    // Mobs of the current wave still to spawn.
+    public int getRemaining() {
+        return wave != null ? wave.count - spawned : 0;
+    }
+
+    // Spawns this tick's share of the wave around (targetX, targetY).
+    // Returns true once the whole wave has been spawned.
+    public boolean update(float delta, boolean hasTarget, float targetX, float targetY) {
+        if (wave == null) {
+            return true;
+        }
+        int allowed = wave.count - spawned;
+        if (spawnsPerTick > 0) {
+            allowed = Math.min(allowed, spawnsPerTick);
+        }
+        boolean trickle = wave.pattern == SpawnPattern.TRICKLE && wave.spawnRate > 0f;
+        if (trickle) {
+            trickleCredit += delta * wave.spawnRate;
+            allowed = Math.min(allowed, (int) trickleCredit);
+        }
+
+        long deadline = budgetNanos > 0L ? System.nanoTime() + budgetNanos : 0L;
+        mobs.ensureCapacity(mobs.size() + allowed);
+        int done = 0;
+        while (done < allowed) {
+            if (deadline != 0L && done > 0 && done % CLOCK_CHECK_INTERVAL == 0 && System.nanoTime() >= deadline) {
+                break;
+            }
+            int type = mobs.getTypeIndex(wave.pickId(random));
+            int index = spawned++;
+            done++;
+            if (type == -1) {
+                continue;
+            }
+            place(wave, index, hasTarget, targetX, targetY, spawn);
+            mobs.add(type, spawn.x, spawn.y);
+        }
+        if (trickle) {
+            trickleCredit -= done;
+        }
+
+        if (spawned >= wave.count) {
+            wave = null;
+            return true;
+        }
+        return false;
+    }
+
+    // Position of the index-th enemy of a wave. RING needs a target and falls back to the spawn points.
+    void place(WaveConfig wave, int index, boolean hasTarget, float targetX, float targetY, Vector2 out) {
+        if (wave.pattern != SpawnPattern.RING || !hasTarget) {
+            out.set(spawnPoints.get(random.nextInt(spawnPoints.size)));
+            return;
+        }
+        float angle = ringAngle + MathUtils.PI2 * index / Math.max(1, wave.count);
+        float x = targetX + MathUtils.cos(angle) * wave.ringRadius;
+        float y = targetY + MathUtils.sin(angle) * wave.ringRadius;
+        if (bounded) {
+            x = MathUtils.clamp(x, minX, maxX);
+            y = MathUtils.clamp(y, minY, maxY);
+        }
+        out.set(x, y);
+    }
+}
@@ -1,5 +1,6 @@
 package io.github.sufod.waves;
 
+import com.badlogic.gdx.math.RandomXS128;
 import com.badlogic.gdx.utils.Array;
 
 public class WaveConfig {
@@ -7,11 +8,32 @@ public class WaveConfig {
     public final int count;
     public final Array<String> possibleIds;
     public final boolean randomChoice;
+    public final SpawnPattern pattern;
+    // Mobs per second for TRICKLE waves.
+    public final float spawnRate;
+    // Distance from the player for RING waves.
+    public final float ringRadius;
 
     public WaveConfig(boolean isBoss, int count, Array<String> possibleIds, boolean randomChoice) {
+        this(isBoss, count, possibleIds, randomChoice, SpawnPattern.BURST, 0f, 0f);
+    }
+
+    public WaveConfig(boolean isBoss, int count, Array<String> possibleIds, boolean randomChoice,
+                      SpawnPattern pattern, float spawnRate, float ringRadius) {
         this.isBoss = isBoss;
         this.count = count;
         this.possibleIds = possibleIds;
         this.randomChoice = randomChoice;
+        this.pattern = pattern;
+        this.spawnRate = spawnRate;
+        this.ringRadius = ringRadius;
+    }
+
+    // Id of the next enemy to spawn, drawn from the simulation's random stream.
+    public String pickId(RandomXS128 random) {
+        if (randomChoice) {
+            return possibleIds.get(random.nextInt(possibleIds.size));
+        }
+        return possibleIds.first();
     }
 }
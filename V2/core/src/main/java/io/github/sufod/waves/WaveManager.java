@@ -1,13 +1,20 @@
 package io.github.sufod.waves;
 
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.core.PooledEngine;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.math.RandomXS128;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.ObjectMap;
 import io.github.sufod.boss.BossDefinition;
-import io.github.sufod.entities.Boss;
-import io.github.sufod.entities.Mob;
-import io.github.sufod.graphics.EntityAnimations;
-import io.github.sufod.mobs.MobDefinition;
+import io.github.sufod.components.BossComponent;
+import io.github.sufod.components.Mappers;
+import io.github.sufod.components.PlayerComponent;
+import io.github.sufod.components.PositionComponent;
+import io.github.sufod.entities.EntityFactory;
+import io.github.sufod.entities.MobStore;
 
 public class WaveManager {
     private final Array<WaveConfig> waves;
@@ -15,44 +22,79 @@ public class WaveManager {
     private int currentIndex;
     private WaveState state;
 
-    private final Array<Mob> activeMobs;
-    private Boss activeBoss;
+    private final MobStore mobs;
+    private final PooledEngine engine;
+    private final EntityFactory entityFactory;
+    private final ImmutableArray<Entity> bosses;
+    private final ImmutableArray<Entity> players;
 
-    private final ObjectMap<String, MobDefinition> mobDefs;
     private final ObjectMap<String, BossDefinition> bossDefs;
-    private final ObjectMap<String, EntityAnimations> mobAnimations;
-    private final ObjectMap<String, EntityAnimations> bossAnimations;
-    private final Array<Vector2> spawnPoints;
+    private final SpawnScheduler scheduler;
+    private final RandomXS128 random;
+    private final Vector2 spawn = new Vector2();
 
     public WaveManager(Array<WaveConfig> waves,
                        int loopStartIndex,
-                       Array<Mob> activeMobs,
-                       ObjectMap<String, MobDefinition> mobDefs,
+                       MobStore mobs,
+                       PooledEngine engine,
+                       EntityFactory entityFactory,
                        ObjectMap<String, BossDefinition> bossDefs,
-                       ObjectMap<String, EntityAnimations> mobAnimations,
-                       ObjectMap<String, EntityAnimations> bossAnimations,
-                       Array<Vector2> spawnPoints) {
+                       Array<Vector2> spawnPoints,
+                       RandomXS128 random) {
         this.waves = waves;
         this.loopStartIndex = loopStartIndex;
         this.currentIndex = 0;
         this.state = WaveState.SPAWN;
-        this.activeMobs = activeMobs;
-        this.mobDefs = mobDefs;
+        this.mobs = mobs;
+        this.engine = engine;
+        this.entityFactory = entityFactory;
+        this.bosses = engine.getEntitiesFor(Family.all(BossComponent.class).get());
+        this.players = engine.getEntitiesFor(Family.all(PlayerComponent.class, PositionComponent.class).get());
         this.bossDefs = bossDefs;
-        this.mobAnimations = mobAnimations;
-        this.bossAnimations = bossAnimations;
-        this.spawnPoints = spawnPoints;
+        this.random = random;
+        this.scheduler = new SpawnScheduler(mobs, spawnPoints, random);
+        prewarm();
     }
 
-    public void update() {
+    // Sizes the mob store and boss pools for the largest wave up front,
+    // so spawning never allocates once the run has started.
+    private void prewarm() {
+        int maxMobs = 0;
+        int bossSlots = 0;
+        for (WaveConfig config : waves) {
+            if (config.isBoss) {
+                bossSlots = 1;
+            } else {
+                maxMobs = Math.max(maxMobs, config.count);
+            }
+        }
+        mobs.ensureCapacity(maxMobs);
+        entityFactory.prewarmBosses(bossSlots);
+    }
+
+    // Mob waves spawn over several ticks (see SpawnScheduler); the wave only counts as
+    // cleared once all of its mobs have spawned and died.
+    public void update(float delta) {
         if (state == WaveState.SPAWN) {
-            spawnCurrentWave();
-            state = WaveState.WAIT_CLEAR;
+            startCurrentWave();
+            if (state != WaveState.SPAWNING) {
+                return;
+            }
+        }
+
+        if (state == WaveState.SPAWNING) {
+            Vector2 target = playerPosition();
+            boolean done = target != null
+                ? scheduler.update(delta, true, target.x, target.y)
+                : scheduler.update(delta, false, 0f, 0f);
+            if (done) {
+                state = WaveState.WAIT_CLEAR;
+            }
             return;
         }
 
         if (state == WaveState.WAIT_CLEAR) {
-            if (activeMobs.size == 0 && activeBoss == null) {
+            if (mobs.size() == 0 && bosses.size() == 0) {
                 currentIndex++;
                 if (currentIndex >= waves.size) {
                     currentIndex = loopStartIndex;
@@ -62,48 +104,54 @@ public class WaveManager {
         }
     }
 
-    private void spawnCurrentWave() {
+    private void startCurrentWave() {
         WaveConfig config = waves.get(currentIndex);
-        if (config.isBoss) {
-            String bossId = pickId(config);
-            BossDefinition def = bossDefs.get(bossId);
-            if (def == null) {
-                return;
-            }
-            Vector2 spawn = pickSpawnPoint();
-            EntityAnimations animations = bossAnimations.get(bossId);
-            activeBoss = new Boss(bossId, spawn, def.stats, animations);
+        if (!config.isBoss) {
+            scheduler.begin(config);
+            state = WaveState.SPAWNING;
             return;
         }
 
-        for (int i = 0; i < config.count; i++) {
-            String mobId = pickId(config);
-            MobDefinition def = mobDefs.get(mobId);
-            if (def == null) {
-                continue;
-            }
-            Vector2 spawn = pickSpawnPoint();
-            EntityAnimations animations = mobAnimations.get(mobId);
-            activeMobs.add(new Mob(mobId, spawn, def.stats, animations));
+        state = WaveState.WAIT_CLEAR;
+        String bossId = config.pickId(random);
+        BossDefinition def = bossDefs.get(bossId);
+        if (def == null) {
+            return;
         }
+        Vector2 target = playerPosition();
+        if (target != null) {
+            scheduler.place(config, 0, true, target.x, target.y, spawn);
+        } else {
+            scheduler.place(config, 0, false, 0f, 0f, spawn);
+        }
+        entityFactory.createBoss(bossId, spawn.x, spawn.y, def.stats);
     }
 
-    private String pickId(WaveConfig config) {
-        if (config.randomChoice) {
-            return config.possibleIds.random();
-        }
-        return config.possibleIds.first();
+    private Vector2 playerPosition() {
+        return players.size() > 0 ? Mappers.position.get(players.get(0)).position : null;
     }
 
-    private Vector2 pickSpawnPoint() {
-        return spawnPoints.random();
+    public WaveState getState() {
+        return state;
     }
 
-    public Boss getActiveBoss() {
-        return activeBoss;
+    // Spawn budget and bounds for mob waves.
+    public SpawnScheduler getScheduler() {
+        return scheduler;
     }
 
+    // Stops spawning the current mob wave, so it counts as cleared once its spawned mobs are gone.
+    public void cancelSpawning() {
+        if (state == WaveState.SPAWNING) {
+            scheduler.cancel();
+            state = WaveState.WAIT_CLEAR;
+        }
+    }
+
+    // Removes every live boss from the engine.
     public void clearBoss() {
-        activeBoss = null;
+        for (int i = bosses.size() - 1; i >= 0; i--) {
+            engine.removeEntity(bosses.get(i));
+        }
     }
 }
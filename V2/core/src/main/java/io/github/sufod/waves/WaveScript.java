@@ -0,0 +1,47 @@
+package io.github.sufod.waves;
+
+import com.badlogic.gdx.utils.Array;
+
+// Ordered wave list; after the last wave the run loops back to loopStartIndex.
+public class WaveScript {
+    public final Array<WaveConfig> waves;
+    public final int loopStartIndex;
+
+    public WaveScript(Array<WaveConfig> waves, int loopStartIndex) {
+        this.waves = waves;
+        this.loopStartIndex = loopStartIndex;
+    }
+
+    // Piou waves, Piou Royal, Bouftou waves, Bouftou Royal, then random mixes forever.
+    public static WaveScript createDefault() {
+        Array<WaveConfig> waves = new Array<>();
+        Array<String> piouIds = new Array<>();
+        piouIds.add("piou");
+        addMobWaves(waves, piouIds, 6, 4, false);
+        Array<String> piouBoss = new Array<>();
+        piouBoss.add("piouRoyal");
+        waves.add(new WaveConfig(true, 1, piouBoss, false));
+        Array<String> bouftouIds = new Array<>();
+        bouftouIds.add("bouftou");
+        addMobWaves(waves, bouftouIds, 6, 4, false);
+        Array<String> bouftouBoss = new Array<>();
+        bouftouBoss.add("bouftouRoyal");
+        waves.add(new WaveConfig(true, 1, bouftouBoss, false));
+        Array<String> randomMobIds = new Array<>();
+        randomMobIds.add("piou");
+        randomMobIds.add("bouftou");
+        Array<String> randomBossIds = new Array<>();
+        randomBossIds.add("piouRoyal");
+        randomBossIds.add("bouftouRoyal");
+        int randomLoopStartIndex = waves.size;
+        addMobWaves(waves, randomMobIds, 6, 4, true);
+        waves.add(new WaveConfig(true, 1, randomBossIds, true));
+        return new WaveScript(waves, randomLoopStartIndex);
+    }
+
+    private static void addMobWaves(Array<WaveConfig> waves, Array<String> ids, int count, int repeats, boolean randomChoice) {
+        for (int i = 0; i < repeats; i++) {
+            waves.add(new WaveConfig(false, count, ids, randomChoice));
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package io.github.sufod.waves;
 
 public enum WaveState {
+    // The current wave starts on the next update.
     SPAWN,
+    // The SpawnScheduler is still adding the current wave's mobs.
+    SPAWNING,
     WAIT_CLEAR
 }
@@ -0,0 +1,41 @@
+package io.github.sufod.headless;
+
+import com.badlogic.gdx.ApplicationListener;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+
+/** Runs the simulation without a window or GPU and prints its throughput. */
+public class HeadlessLauncher {
+    private static final int DEFAULT_TICKS = 100_000;
+    // Stands in for the K debug key: enemies are cleared so the waves keep advancing.
+    private static final int DEFAULT_TICKS_PER_CLEAR = 600;
+    // Scripted runs use a fixed seed so they are comparable between builds.
+    private static final long DEFAULT_SEED = 1L;
+
+    // Usage: [<ticks> [<ticksPerClear>]] [--record <file>]  or  --replay <file>
+    public static void main(String[] args) {
+        String recordPath = null;
+        String replayPath = null;
+        int ticks = DEFAULT_TICKS;
+        int ticksPerClear = DEFAULT_TICKS_PER_CLEAR;
+        int position = 0;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--record") && i + 1 < args.length) {
+                recordPath = args[++i];
+            } else if (args[i].equals("--replay") && i + 1 < args.length) {
+                replayPath = args[++i];
+            } else if (position++ == 0) {
+                ticks = Integer.parseInt(args[i]);
+            } else {
+                ticksPerClear = Integer.parseInt(args[i]);
+            }
+        }
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        // The whole run happens in create(); no render loop is needed.
+        configuration.updatesPerSecond = -1;
+        ApplicationListener runner = replayPath != null
+            ? new ReplayRunner(replayPath)
+            : new SimulationRunner(ticks, ticksPerClear, DEFAULT_SEED, recordPath);
+        new HeadlessApplication(runner, configuration);
+    }
+}
@@ -0,0 +1,80 @@
+package io.github.sufod.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import io.github.sufod.boss.BossDefinition;
+import io.github.sufod.boss.BossRepository;
+import io.github.sufod.characters.CharacterDefinition;
+import io.github.sufod.characters.CharacterRepository;
+import io.github.sufod.mobs.MobDefinition;
+import io.github.sufod.mobs.MobRepository;
+import io.github.sufod.replay.Recording;
+import io.github.sufod.replay.ReplayInput;
+import io.github.sufod.sim.Simulation;
+
+// Replays a recorded run as fast as possible, checking every tick's state checksum.
+// Stops at the first divergent tick and exits with status 1; otherwise prints ticks per second.
+public class ReplayRunner extends ApplicationAdapter {
+    private static final float STEP = 1f / 60f;
+
+    private final String path;
+
+    public ReplayRunner(String path) {
+        this.path = path;
+    }
+
+    @Override
+    public void create() {
+        Recording recording = Recording.read(Recording.file(path));
+        Array<CharacterDefinition> characters = new CharacterRepository().load("characters/playables.json");
+        Array<MobDefinition> mobs = new MobRepository().load("mobs/mobs.json");
+        Array<BossDefinition> bosses = new BossRepository().load("boss/boss.json");
+        CharacterDefinition character = null;
+        for (CharacterDefinition definition : characters) {
+            if (definition.id.equals(recording.characterId)) {
+                character = definition;
+            }
+        }
+        if (character == null) {
+            throw new GdxRuntimeException("Unknown character in recording: " + recording.characterId);
+        }
+
+        ReplayInput replay = new ReplayInput(recording);
+        Simulation simulation = Simulation.createRun(
+            recording.worldWidth,
+            recording.worldHeight,
+            character.stats,
+            replay,
+            mobs,
+            bosses,
+            recording.seed
+        );
+
+        long start = System.nanoTime();
+        while (replay.beginTick()) {
+            if (replay.isClearEnemies()) {
+                simulation.clearEnemies();
+            }
+            simulation.update(STEP);
+            if (!replay.endTick(simulation.checksum())) {
+                break;
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        simulation.dispose();
+
+        if (replay.getMismatchCount() > 0) {
+            System.out.println("Replay diverged at tick " + replay.getFirstMismatchTick()
+                + " of " + recording.size());
+            System.exit(1);
+        }
+        int ticks = replay.getTicks();
+        double seconds = elapsed / 1_000_000_000.0;
+        System.out.printf("%d ticks in %.3f s: %.0f ticks/s (%.1fx real time at 60 Hz)%n",
+            ticks, seconds, ticks / seconds, ticks * STEP / seconds);
+        System.out.println("Replay matched all " + ticks + " checksums");
+        Gdx.app.exit();
+    }
+}
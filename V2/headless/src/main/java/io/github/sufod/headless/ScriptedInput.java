@@ -0,0 +1,39 @@
+package io.github.sufod.headless;
+
+import io.github.sufod.input.InputSource;
+
+// Walks the player around in a fixed pattern, one of the 8 directions per segment.
+public class ScriptedInput implements InputSource {
+    private static final int TICKS_PER_SEGMENT = 90;
+    // Bits: 1 = up, 2 = down, 4 = left, 8 = right.
+    private static final int[] PATTERN = {8, 9, 1, 5, 4, 6, 2, 10};
+
+    private int tick;
+    private int keys;
+
+    // Call once per tick, before the simulation reads the input.
+    public void update() {
+        keys = PATTERN[(tick / TICKS_PER_SEGMENT) % PATTERN.length];
+        tick++;
+    }
+
+    @Override
+    public boolean isUp() {
+        return (keys & 1) != 0;
+    }
+
+    @Override
+    public boolean isDown() {
+        return (keys & 2) != 0;
+    }
+
+    @Override
+    public boolean isLeft() {
+        return (keys & 4) != 0;
+    }
+
+    @Override
+    public boolean isRight() {
+        return (keys & 8) != 0;
+    }
+}
@@ -0,0 +1,91 @@
+package io.github.sufod.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Json;
+import io.github.sufod.GameAssets;
+import io.github.sufod.boss.BossDefinition;
+import io.github.sufod.boss.BossRepository;
+import io.github.sufod.characters.CharacterDefinition;
+import io.github.sufod.characters.CharacterRepository;
+import io.github.sufod.graphics.MapIndex;
+import io.github.sufod.mobs.MobDefinition;
+import io.github.sufod.mobs.MobRepository;
+import io.github.sufod.replay.InputRecorder;
+import io.github.sufod.replay.Recording;
+import io.github.sufod.sim.Simulation;
+
+// Loads the game data, runs the default wave script for a number of ticks
+// as fast as possible, then prints ticks per second and exits.
+// With a record path the scripted run is also saved for ReplayRunner.
+public class SimulationRunner extends ApplicationAdapter {
+    private static final float STEP = 1f / 60f;
+
+    private final int ticks;
+    private final int ticksPerClear;
+    private final long seed;
+    // Recording output file, or null.
+    private final String recordPath;
+
+    public SimulationRunner(int ticks, int ticksPerClear, long seed, String recordPath) {
+        this.ticks = ticks;
+        this.ticksPerClear = ticksPerClear;
+        this.seed = seed;
+        this.recordPath = recordPath;
+    }
+
+    @Override
+    public void create() {
+        Array<CharacterDefinition> characters = new CharacterRepository().load("characters/playables.json");
+        Array<MobDefinition> mobs = new MobRepository().load("mobs/mobs.json");
+        Array<BossDefinition> bosses = new BossRepository().load("boss/boss.json");
+        CharacterDefinition character = characters.first();
+        // The world is the whole map, as in GameScreen, so both build the same Simulation.
+        MapIndex map = new Json().fromJson(MapIndex.class, Gdx.files.internal(GameAssets.MAP));
+        float worldWidth = map.width;
+        float worldHeight = map.height;
+
+        ScriptedInput input = new ScriptedInput();
+        InputRecorder recorder = recordPath != null
+            ? new InputRecorder(input, new Recording(seed, character.id, worldWidth, worldHeight))
+            : null;
+        Simulation simulation = Simulation.createRun(
+            worldWidth,
+            worldHeight,
+            character.stats,
+            recorder != null ? recorder : input,
+            mobs,
+            bosses,
+            seed
+        );
+
+        long start = System.nanoTime();
+        for (int tick = 0; tick < ticks; tick++) {
+            input.update();
+            // Enemies are cleared at the start of the tick after every ticksPerClear ticks.
+            boolean clear = ticksPerClear > 0 && tick > 0 && tick % ticksPerClear == 0;
+            if (clear) {
+                simulation.clearEnemies();
+            }
+            if (recorder != null) {
+                recorder.beginTick(clear);
+            }
+            simulation.update(STEP);
+            if (recorder != null) {
+                recorder.endTick(simulation.checksum());
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        simulation.dispose();
+        if (recorder != null) {
+            recorder.getRecording().write(Recording.file(recordPath));
+            System.out.println("Recorded " + ticks + " ticks to " + recordPath);
+        }
+
+        double seconds = elapsed / 1_000_000_000.0;
+        System.out.printf("%d ticks in %.3f s: %.0f ticks/s (%.1fx real time at 60 Hz)%n",
+            ticks, seconds, ticks / seconds, ticks * STEP / seconds);
+        Gdx.app.exit();
+    }
+}
@@ -8,11 +8,21 @@ import io.github.sufod.Main;
 public class Lwjgl3Launcher {
     public static void main(String[] args) {
         if (StartupHelper.startNewJvmIfRequired()) return; // This handles macOS support and helps on Windows.
-        createApplication();
+        createApplication(args);
     }
 
-    private static Lwjgl3Application createApplication() {
-        return new Lwjgl3Application(new Main(), getDefaultConfiguration());
+    // --record <file> saves the run's input for replay; --replay <file> plays one back.
+    private static Lwjgl3Application createApplication(String[] args) {
+        String recordPath = null;
+        String replayPath = null;
+        for (int i = 0; i + 1 < args.length; i++) {
+            if (args[i].equals("--record")) {
+                recordPath = args[++i];
+            } else if (args[i].equals("--replay")) {
+                replayPath = args[++i];
+            }
+        }
+        return new Lwjgl3Application(new Main(recordPath, replayPath), getDefaultConfiguration());
     }
 
     private static Lwjgl3ApplicationConfiguration getDefaultConfiguration() {